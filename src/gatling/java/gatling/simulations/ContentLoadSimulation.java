@@ -0,0 +1,215 @@
+package gatling.simulations;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+import io.gatling.javaapi.core.*;
+import io.gatling.javaapi.http.*;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load test of the content API with a realistic mix: readers browsing the layout, pages and posts, editors writing
+ * blog posts and bursts of logins.
+ * <p>
+ * The simulation first seeds {@code corpusSize} blog posts and {@code staticPages} static pages through the API, then runs
+ * the mix for {@code duration} seconds. The unpaginated reads show how the {@code findAll()} style endpoints grow with the
+ * corpus.
+ * Run it against a running application, e.g. on the PostgreSQL of {@code src/main/docker/postgresql.yml}:
+ * <pre>
+ * ./mvnw -Pgatling gatling:test -DbaseURL=http://localhost:8080 -DcorpusSize=10000 -Dreaders=50 -Deditors=5 -Dlogins=20
+ * </pre>
+ */
+public class ContentLoadSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseURL", "http://localhost:8080");
+
+    private static final int CORPUS_SIZE = Integer.getInteger("corpusSize", 1000);
+
+    private static final int STATIC_PAGES = Integer.getInteger("staticPages", 50);
+
+    private static final int READERS = Integer.getInteger("readers", 20);
+
+    private static final int EDITORS = Integer.getInteger("editors", 2);
+
+    private static final int LOGINS = Integer.getInteger("logins", 10);
+
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("duration", 120));
+
+    private static final String ADMIN_LOGIN = System.getProperty("adminLogin", "admin");
+
+    private static final String ADMIN_PASSWORD = System.getProperty("adminPassword", "admin");
+
+    private static final String USER_LOGIN = System.getProperty("userLogin", "user");
+
+    private static final String USER_PASSWORD = System.getProperty("userPassword", "user");
+
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * The largest page served by the paginated endpoints, Spring Data's default {@code max-page-size}.
+     */
+    private static final int MAX_PAGE_SIZE = 2000;
+
+    private final HttpProtocolBuilder httpProtocol = http
+        .baseUrl(BASE_URL)
+        .acceptHeader("*/*")
+        .acceptEncodingHeader("gzip, deflate")
+        .acceptLanguageHeader("de")
+        .connectionHeader("keep-alive")
+        .userAgentHeader("Mozilla/5.0 (Macintosh; Intel Mac OS X 10.10; rv:33.0) Gecko/20100101 Firefox/33.0");
+
+    private final Map<String, String> headersHttp = Map.of("Accept", "application/json");
+
+    private final Map<String, String> headersHttpAuthentication = Map.of(
+        "Content-Type",
+        "application/json",
+        "Accept",
+        "application/json"
+    );
+
+    private final Map<String, String> headersHttpAuthenticated = Map.of(
+        "Content-Type",
+        "application/json",
+        "Accept",
+        "application/json",
+        "Authorization",
+        "#{access_token}"
+    );
+
+    private ChainBuilder authenticate(String login, String password) {
+        return exec(
+            http("Authentication")
+                .post("/api/authenticate")
+                .headers(headersHttpAuthentication)
+                .body(StringBody("{\"username\":\"" + login + "\", \"password\":\"" + password + "\"}"))
+                .asJson()
+                .check(header("Authorization").saveAs("access_token"))
+        ).exitHereIfFailed();
+    }
+
+    private final ChainBuilder createBlogPost = exec(
+        http("Create new blogPost")
+            .post("/api/blog-posts")
+            .headers(headersHttpAuthenticated)
+            .body(
+                StringBody(
+                    session ->
+                        "{\"title\": \"Tour " +
+                        session.userId() +
+                        "-" +
+                        ThreadLocalRandom.current().nextInt() +
+                        "\", \"content\": \"" +
+                        "Aufstieg über den Grat, Abfahrt durch die Rinne. ".repeat(40) +
+                        "\"}"
+                )
+            )
+            .asJson()
+            .check(status().is(201))
+            .check(jsonPath("$.id").saveAs("new_blogPost_id"))
+    );
+
+    private final ChainBuilder createStaticPage = exec(
+        http("Create new staticPage")
+            .post("/api/static-pages")
+            .headers(headersHttpAuthenticated)
+            .body(StringBody("{\"title\": \"Seite #{counter}\", \"content\": \"" + "Hütten, Touren und Kurse. ".repeat(200) + "\"}"))
+            .asJson()
+            .check(status().is(201))
+    );
+
+    private final ScenarioBuilder seed = scenario("Seed content")
+        .exec(authenticate(ADMIN_LOGIN, ADMIN_PASSWORD))
+        .repeat(STATIC_PAGES, "counter")
+        .on(createStaticPage)
+        .repeat(CORPUS_SIZE)
+        .on(createBlogPost);
+
+    private final ScenarioBuilder readers = scenario("Readers")
+        .exec(authenticate(USER_LOGIN, USER_PASSWORD))
+        .during(DURATION)
+        .on(
+            exec(http("Get layout").get("/api/layout").headers(headersHttpAuthenticated).check(status().is(200)))
+                .exec(
+                    http("Get all staticPages")
+                        .get("/api/static-pages")
+                        .headers(headersHttpAuthenticated)
+                        .check(status().is(200))
+                )
+                .exec(session ->
+                    session.set("page", ThreadLocalRandom.current().nextInt(Math.max(1, CORPUS_SIZE / PAGE_SIZE)))
+                )
+                .exec(
+                    http("Get page of blogPosts")
+                        .get("/api/blog-posts?view=summary&page=#{page}&size=" + PAGE_SIZE + "&sort=id,desc")
+                        .headers(headersHttpAuthenticated)
+                        .check(status().is(200))
+                        .check(jsonPath("$[*].id").findRandom().optional().saveAs("blogPost_id"))
+                )
+                .doIf(session -> session.contains("blogPost_id"))
+                .then(
+                    exec(
+                        http("Get blogPost")
+                            .get("/api/blog-posts/#{blogPost_id}")
+                            .headers(headersHttpAuthenticated)
+                            .check(status().is(200))
+                    )
+                )
+                .exec(
+                    http("Get page of " + MAX_PAGE_SIZE + " blogPosts")
+                        .get("/api/blog-posts?size=" + MAX_PAGE_SIZE)
+                        .headers(headersHttpAuthenticated)
+                        .check(status().is(200))
+                )
+                .pause(Duration.ofSeconds(1), Duration.ofSeconds(3))
+        );
+
+    private final ScenarioBuilder editors = scenario("Editors")
+        .exec(authenticate(ADMIN_LOGIN, ADMIN_PASSWORD))
+        .during(DURATION)
+        .on(
+            exec(createBlogPost)
+                .pause(Duration.ofSeconds(2))
+                .exec(
+                    http("Get created blogPost")
+                        .get("/api/blog-posts/#{new_blogPost_id}")
+                        .headers(headersHttpAuthenticated)
+                        .check(status().is(200))
+                        .check(jsonPath("$.version").saveAs("new_blogPost_version"))
+                )
+                .exec(
+                    http("Update blogPost")
+                        .put("/api/blog-posts/#{new_blogPost_id}")
+                        .headers(headersHttpAuthenticated)
+                        .body(
+                            StringBody(
+                                "{\"id\": #{new_blogPost_id}, \"version\": #{new_blogPost_version}, " +
+                                "\"title\": \"Tour #{new_blogPost_id}, überarbeitet\", \"content\": \"Neue Route.\"}"
+                            )
+                        )
+                        .asJson()
+                        .check(status().is(200))
+                )
+                .pause(Duration.ofSeconds(5), Duration.ofSeconds(10))
+        );
+
+    private final ScenarioBuilder logins = scenario("Login bursts").exec(authenticate(USER_LOGIN, USER_PASSWORD));
+
+    {
+        setUp(
+            seed
+                .injectOpen(atOnceUsers(1))
+                .andThen(
+                    readers.injectOpen(rampUsers(READERS).during(Duration.ofSeconds(30))),
+                    editors.injectOpen(rampUsers(EDITORS).during(Duration.ofSeconds(30))),
+                    logins.injectOpen(
+                        nothingFor(Duration.ofSeconds(30)),
+                        atOnceUsers(LOGINS),
+                        nothingFor(Duration.ofSeconds(30)),
+                        atOnceUsers(LOGINS)
+                    )
+                )
+        ).protocols(httpProtocol);
+    }
+}
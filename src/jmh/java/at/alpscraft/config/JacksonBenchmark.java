@@ -0,0 +1,90 @@
+package at.alpscraft.config;
+
+import at.alpscraft.domain.Authority;
+import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.PostCategory;
+import at.alpscraft.domain.User;
+import at.alpscraft.security.AuthoritiesConstants;
+import at.alpscraft.service.dto.AdminUserDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks of the JSON serialization of REST responses, with the modules of {@link JacksonConfiguration}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private AdminUserDTO adminUserDTO;
+
+    @Setup
+    public void setup() {
+        JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modules(jacksonConfiguration.javaTimeModule(), jacksonConfiguration.jdk8TimeModule(), jacksonConfiguration.hibernate6Module())
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+        adminUserDTO = new AdminUserDTO(author());
+    }
+
+    @Benchmark
+    public byte[] serializeBlogPost(BlogPostState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.blogPost);
+    }
+
+    @Benchmark
+    public byte[] serializeAdminUserDTO() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(adminUserDTO);
+    }
+
+    private static User author() {
+        User author = new User();
+        author.setId(1L);
+        author.setLogin("author");
+        author.setFirstName("Anna");
+        author.setLastName("Huber");
+        author.setEmail("author@localhost");
+        author.setActivated(true);
+        author.setLangKey("de");
+        author.setCreatedBy("system");
+        author.setCreatedDate(Instant.now());
+        author.setLastModifiedBy("system");
+        author.setLastModifiedDate(Instant.now());
+        author.setAuthorities(Set.of(new Authority().name(AuthoritiesConstants.USER), new Authority().name(AuthoritiesConstants.ADMIN)));
+        return author;
+    }
+
+    @State(Scope.Benchmark)
+    public static class BlogPostState {
+
+        @Param({ "1000", "50000" })
+        private int contentLength;
+
+        private BlogPost blogPost;
+
+        @Setup
+        public void setup() {
+            blogPost = new BlogPost()
+                .id(1L)
+                .title("Skitouren im Frühling")
+                .content("Firn am Morgen. ".repeat(contentLength / 16))
+                .version(3)
+                .category(new PostCategory().id(1L).name("Touren").description("Berichte von Touren"))
+                .author(author());
+        }
+    }
+}
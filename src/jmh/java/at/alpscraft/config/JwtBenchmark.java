@@ -0,0 +1,90 @@
+package at.alpscraft.config;
+
+import at.alpscraft.management.SecurityMetersService;
+import at.alpscraft.security.AuthoritiesConstants;
+import at.alpscraft.security.jwt.TokenRevocationList;
+import at.alpscraft.web.rest.AuthenticateController;
+import com.nimbusds.jose.util.Base64;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Benchmarks of the JWT issued at login and validated on every authenticated request, with the beans of
+ * {@link SecurityJwtConfiguration}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    /**
+     * Number of revoked tokens the decoded tokens are checked against.
+     */
+    @Param({ "0", "1000000" })
+    private int revokedTokens;
+
+    private JwtDecoder jwtDecoder;
+
+    private JwtDecoder cachingJwtDecoder;
+
+    private AuthenticateController authenticateController;
+
+    private Authentication authentication;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        SecurityJwtConfiguration securityJwtConfiguration = new SecurityJwtConfiguration();
+        ReflectionTestUtils.setField(securityJwtConfiguration, "jwtKey", Base64.encode(secret).toString());
+        SecurityMetersService metersService = new SecurityMetersService(new SimpleMeterRegistry());
+        TokenRevocationList tokenRevocationList = new TokenRevocationList(Math.max(revokedTokens, 1000), 0.001);
+        for (int i = 0; i < revokedTokens; i++) {
+            tokenRevocationList.add(UUID.randomUUID().toString());
+        }
+        jwtDecoder = securityJwtConfiguration.jwtDecoder(metersService, new NoOpCacheManager(), tokenRevocationList);
+        cachingJwtDecoder = securityJwtConfiguration.jwtDecoder(metersService, new ConcurrentMapCacheManager(), tokenRevocationList);
+
+        authenticateController = new AuthenticateController(securityJwtConfiguration.jwtEncoder(), null, null);
+        ReflectionTestUtils.setField(authenticateController, "tokenValidityInSeconds", 86400L);
+        ReflectionTestUtils.setField(authenticateController, "tokenValidityInSecondsForRememberMe", 2592000L);
+        authentication = new UsernamePasswordAuthenticationToken(
+            "admin",
+            null,
+            List.of(new SimpleGrantedAuthority(AuthoritiesConstants.ADMIN), new SimpleGrantedAuthority(AuthoritiesConstants.USER))
+        );
+        token = authenticateController.createToken(authentication, false);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodeCached() {
+        return cachingJwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return authenticateController.createToken(authentication, false);
+    }
+}
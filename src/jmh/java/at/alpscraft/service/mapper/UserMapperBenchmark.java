@@ -0,0 +1,54 @@
+package at.alpscraft.service.mapper;
+
+import at.alpscraft.domain.Authority;
+import at.alpscraft.domain.User;
+import at.alpscraft.security.AuthoritiesConstants;
+import at.alpscraft.service.dto.UserDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark of {@link UserMapper#usersToUserDTOs(List)}, used by the public user list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    @Param({ "20", "1000" })
+    private int size;
+
+    private UserMapper userMapper;
+
+    private List<User> users;
+
+    @Setup
+    public void setup() {
+        userMapper = new UserMapper();
+        Authority userAuthority = new Authority().name(AuthoritiesConstants.USER);
+        users = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setLogin("user-" + id);
+            user.setFirstName("First " + id);
+            user.setLastName("Last " + id);
+            user.setEmail("user-" + id + "@localhost");
+            user.setActivated(true);
+            user.setLangKey("de");
+            user.setAuthorities(Set.of(userAuthority));
+            users.add(user);
+        }
+    }
+
+    @Benchmark
+    public List<UserDTO> usersToUserDTOs() {
+        return userMapper.usersToUserDTOs(users);
+    }
+}
@@ -0,0 +1,45 @@
+package at.alpscraft.web.filter;
+
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Benchmark of the path matching done by {@link SpaWebFilter} in front of every request, for API calls, static assets and
+ * client routes forwarded to {@code index.html}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpaWebFilterBenchmark {
+
+    @Param({ "/api/blog-posts/1", "/management/health", "/app/main.js", "/", "/blog-post/1/view" })
+    private String path;
+
+    private SpaWebFilter spaWebFilter;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setup() {
+        spaWebFilter = new SpaWebFilter();
+        request = new MockHttpServletRequest("GET", path);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilterInternal() throws ServletException, IOException {
+        // a new chain each time, a MockFilterChain can only be invoked once
+        spaWebFilter.doFilterInternal(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -1,5 +1,7 @@
 package at.alpscraft.config;
 
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -13,12 +15,60 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Cache cache = new Cache();
+
+    private final DataGenerator dataGenerator = new DataGenerator();
+
+    private final Security security = new Security();
+
+    private final Mail mail = new Mail();
+
+    private final Executors executors = new Executors();
+
+    private final BlogPostStats blogPostStats = new BlogPostStats();
+
+    private final BlogPostPublishing blogPostPublishing = new BlogPostPublishing();
+
+    private final Revisions revisions = new Revisions();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Cache getCache() {
+        return cache;
+    }
+
+    public DataGenerator getDataGenerator() {
+        return dataGenerator;
+    }
+
+    public Security getSecurity() {
+        return security;
+    }
+
+    public Mail getMail() {
+        return mail;
+    }
+
+    public Executors getExecutors() {
+        return executors;
+    }
+
+    public BlogPostStats getBlogPostStats() {
+        return blogPostStats;
+    }
+
+    public BlogPostPublishing getBlogPostPublishing() {
+        return blogPostPublishing;
+    }
+
+    public Revisions getRevisions() {
+        return revisions;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +83,724 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Cache {
+
+        /**
+         * Root directory of the disk tiers, required as soon as a region has a disk tier.
+         */
+        private String diskPath;
+
+        /**
+         * Per cache settings, keyed by cache name. Unset values fall back to {@code jhipster.cache.ehcache}.
+         */
+        private final Map<String, Region> regions = new HashMap<>();
+
+        private final Warmup warmup = new Warmup();
+
+        private final Invalidation invalidation = new Invalidation();
+
+        public String getDiskPath() {
+            return diskPath;
+        }
+
+        public void setDiskPath(String diskPath) {
+            this.diskPath = diskPath;
+        }
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public Warmup getWarmup() {
+            return warmup;
+        }
+
+        public Invalidation getInvalidation() {
+            return invalidation;
+        }
+
+        public static class Region {
+
+            private Long heapEntries;
+
+            private Long offHeapMb;
+
+            private Long diskMb;
+
+            private boolean diskPersistent = false;
+
+            private Long timeToLiveSeconds;
+
+            public Long getHeapEntries() {
+                return heapEntries;
+            }
+
+            public void setHeapEntries(Long heapEntries) {
+                this.heapEntries = heapEntries;
+            }
+
+            public Long getOffHeapMb() {
+                return offHeapMb;
+            }
+
+            public void setOffHeapMb(Long offHeapMb) {
+                this.offHeapMb = offHeapMb;
+            }
+
+            public Long getDiskMb() {
+                return diskMb;
+            }
+
+            public void setDiskMb(Long diskMb) {
+                this.diskMb = diskMb;
+            }
+
+            public boolean isDiskPersistent() {
+                return diskPersistent;
+            }
+
+            public void setDiskPersistent(boolean diskPersistent) {
+                this.diskPersistent = diskPersistent;
+            }
+
+            public Long getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(Long timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+        }
+
+        public static class Warmup {
+
+            private boolean enabled = false;
+
+            /**
+             * Number of entities read per query.
+             */
+            private int batchSize = 100;
+
+            /**
+             * Number of published blog posts to preload, the most read first, then the most recent.
+             */
+            private int blogPosts = 1000;
+
+            /**
+             * Number of batches read concurrently.
+             */
+            private int parallelism = 1;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public int getBlogPosts() {
+                return blogPosts;
+            }
+
+            public void setBlogPosts(int blogPosts) {
+                this.blogPosts = blogPosts;
+            }
+
+            public int getParallelism() {
+                return parallelism;
+            }
+
+            public void setParallelism(int parallelism) {
+                this.parallelism = parallelism;
+            }
+        }
+
+        public static class Invalidation {
+
+            /**
+             * Broadcast cache evictions to the other instances sharing the database.
+             */
+            private boolean enabled = false;
+
+            private String channel = "cache_invalidation";
+
+            /**
+             * Delay before reconnecting the listener after a failure.
+             */
+            private long reconnectDelayMs = 5000;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public String getChannel() {
+                return channel;
+            }
+
+            public void setChannel(String channel) {
+                this.channel = channel;
+            }
+
+            public long getReconnectDelayMs() {
+                return reconnectDelayMs;
+            }
+
+            public void setReconnectDelayMs(long reconnectDelayMs) {
+                this.reconnectDelayMs = reconnectDelayMs;
+            }
+        }
+    }
+
+    public static class DataGenerator {
+
+        /**
+         * Seed of the random generator, the same seed and volumes generate the same content.
+         */
+        private long seed = 42;
+
+        private int users = 1000;
+
+        private int categories = 1000;
+
+        private int blogPosts = 1_000_000;
+
+        private int staticPages = 1000;
+
+        /**
+         * Number of layout sections generated for each section type.
+         */
+        private int sectionsPerType = 5;
+
+        private int elementsPerSection = 10;
+
+        /**
+         * Median length of the content of blog posts and static pages, lengths follow a log-normal distribution.
+         */
+        private int medianContentLength = 3000;
+
+        /**
+         * Number of rows copied per transaction.
+         */
+        private int batchSize = 10_000;
+
+        /**
+         * Stop the application once the data is generated.
+         */
+        private boolean exitWhenDone = true;
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(long seed) {
+            this.seed = seed;
+        }
+
+        public int getUsers() {
+            return users;
+        }
+
+        public void setUsers(int users) {
+            this.users = users;
+        }
+
+        public int getCategories() {
+            return categories;
+        }
+
+        public void setCategories(int categories) {
+            this.categories = categories;
+        }
+
+        public int getBlogPosts() {
+            return blogPosts;
+        }
+
+        public void setBlogPosts(int blogPosts) {
+            this.blogPosts = blogPosts;
+        }
+
+        public int getStaticPages() {
+            return staticPages;
+        }
+
+        public void setStaticPages(int staticPages) {
+            this.staticPages = staticPages;
+        }
+
+        public int getSectionsPerType() {
+            return sectionsPerType;
+        }
+
+        public void setSectionsPerType(int sectionsPerType) {
+            this.sectionsPerType = sectionsPerType;
+        }
+
+        public int getElementsPerSection() {
+            return elementsPerSection;
+        }
+
+        public void setElementsPerSection(int elementsPerSection) {
+            this.elementsPerSection = elementsPerSection;
+        }
+
+        public int getMedianContentLength() {
+            return medianContentLength;
+        }
+
+        public void setMedianContentLength(int medianContentLength) {
+            this.medianContentLength = medianContentLength;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public boolean isExitWhenDone() {
+            return exitWhenDone;
+        }
+
+        public void setExitWhenDone(boolean exitWhenDone) {
+            this.exitWhenDone = exitWhenDone;
+        }
+    }
+
+    public static class Security {
+
+        private final PasswordHashing passwordHashing = new PasswordHashing();
+
+        private final LoginThrottling loginThrottling = new LoginThrottling();
+
+        private final TokenRevocation tokenRevocation = new TokenRevocation();
+
+        public PasswordHashing getPasswordHashing() {
+            return passwordHashing;
+        }
+
+        public LoginThrottling getLoginThrottling() {
+            return loginThrottling;
+        }
+
+        public TokenRevocation getTokenRevocation() {
+            return tokenRevocation;
+        }
+
+        public static class PasswordHashing {
+
+            /**
+             * Number of passwords hashed at once, defaults to the number of processors.
+             */
+            private int threads = Runtime.getRuntime().availableProcessors();
+
+            /**
+             * Number of passwords waiting for a hashing thread, further requests are answered with 503 at once.
+             */
+            private int queueCapacity = 100;
+
+            /**
+             * Longest time a request waits for its password to be hashed before being answered with 503.
+             */
+            private long maxWaitMs = 5000;
+
+            public int getThreads() {
+                return threads;
+            }
+
+            public void setThreads(int threads) {
+                this.threads = threads;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+
+            public long getMaxWaitMs() {
+                return maxWaitMs;
+            }
+
+            public void setMaxWaitMs(long maxWaitMs) {
+                this.maxWaitMs = maxWaitMs;
+            }
+        }
+
+        public static class LoginThrottling {
+
+            /**
+             * Failed logins for the same login within the window before further attempts are rejected with 429.
+             */
+            private int maxFailuresPerLogin = 5;
+
+            /**
+             * Failed logins from the same client address within the window before further attempts are rejected with 429.
+             */
+            private int maxFailuresPerAddress = 50;
+
+            private long windowSeconds = 300;
+
+            /**
+             * Interval at which the logins and addresses without recent failures are forgotten.
+             */
+            private long cleanupIntervalMs = 60000;
+
+            public int getMaxFailuresPerLogin() {
+                return maxFailuresPerLogin;
+            }
+
+            public void setMaxFailuresPerLogin(int maxFailuresPerLogin) {
+                this.maxFailuresPerLogin = maxFailuresPerLogin;
+            }
+
+            public int getMaxFailuresPerAddress() {
+                return maxFailuresPerAddress;
+            }
+
+            public void setMaxFailuresPerAddress(int maxFailuresPerAddress) {
+                this.maxFailuresPerAddress = maxFailuresPerAddress;
+            }
+
+            public long getWindowSeconds() {
+                return windowSeconds;
+            }
+
+            public void setWindowSeconds(long windowSeconds) {
+                this.windowSeconds = windowSeconds;
+            }
+
+            public long getCleanupIntervalMs() {
+                return cleanupIntervalMs;
+            }
+
+            public void setCleanupIntervalMs(long cleanupIntervalMs) {
+                this.cleanupIntervalMs = cleanupIntervalMs;
+            }
+        }
+
+        public static class TokenRevocation {
+
+            /**
+             * Number of revoked, unexpired tokens the in-memory filter is sized for; it grows with the revoked tokens on reload.
+             */
+            private long expectedRevokedTokens = 1_000_000;
+
+            /**
+             * Share of the valid tokens the in-memory filter cannot tell apart from revoked ones, which are then looked up.
+             */
+            private double falsePositiveRate = 0.001;
+
+            public long getExpectedRevokedTokens() {
+                return expectedRevokedTokens;
+            }
+
+            public void setExpectedRevokedTokens(long expectedRevokedTokens) {
+                this.expectedRevokedTokens = expectedRevokedTokens;
+            }
+
+            public double getFalsePositiveRate() {
+                return falsePositiveRate;
+            }
+
+            public void setFalsePositiveRate(double falsePositiveRate) {
+                this.falsePositiveRate = falsePositiveRate;
+            }
+        }
+    }
+
+    public static class Mail {
+
+        private final Outbox outbox = new Outbox();
+
+        public Outbox getOutbox() {
+            return outbox;
+        }
+
+        public static class Outbox {
+
+            /**
+             * Store the emails in the {@code mail_outbox_message} table and deliver them from there, instead of sending each one
+             * from the async executor.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Number of emails sent over one SMTP connection.
+             */
+            private int batchSize = 50;
+
+            private long pollIntervalMs = 5000;
+
+            /**
+             * Delivery attempts of an email before it is given up.
+             */
+            private int maxAttempts = 8;
+
+            /**
+             * Delay before the first retry, doubled for each further retry up to {@code maxBackoffMs}.
+             */
+            private long initialBackoffMs = 30_000;
+
+            private long maxBackoffMs = 3_600_000;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public long getPollIntervalMs() {
+                return pollIntervalMs;
+            }
+
+            public void setPollIntervalMs(long pollIntervalMs) {
+                this.pollIntervalMs = pollIntervalMs;
+            }
+
+            public int getMaxAttempts() {
+                return maxAttempts;
+            }
+
+            public void setMaxAttempts(int maxAttempts) {
+                this.maxAttempts = maxAttempts;
+            }
+
+            public long getInitialBackoffMs() {
+                return initialBackoffMs;
+            }
+
+            public void setInitialBackoffMs(long initialBackoffMs) {
+                this.initialBackoffMs = initialBackoffMs;
+            }
+
+            public long getMaxBackoffMs() {
+                return maxBackoffMs;
+            }
+
+            public void setMaxBackoffMs(long maxBackoffMs) {
+                this.maxBackoffMs = maxBackoffMs;
+            }
+        }
+    }
+
+    /**
+     * Pools of the named executors, each dedicated to a workload; unqualified {@code @Async} methods still use
+     * {@code spring.task.execution}.
+     */
+    public static class Executors {
+
+        /**
+         * Rendering and queueing or sending emails.
+         */
+        private final Pool mail = new Pool(2, 8, 500);
+
+        /**
+         * Preloading the caches after startup.
+         */
+        private final Pool cacheWarmup = new Pool(4, 4, 100);
+
+        /**
+         * Background maintenance, such as the asynchronous Liquibase start.
+         */
+        private final Pool maintenance = new Pool(1, 2, 100);
+
+        public Pool getMail() {
+            return mail;
+        }
+
+        public Pool getCacheWarmup() {
+            return cacheWarmup;
+        }
+
+        public Pool getMaintenance() {
+            return maintenance;
+        }
+
+        public static class Pool {
+
+            private int coreSize;
+
+            /**
+             * Threads beyond the core size are only started once the queue is full.
+             */
+            private int maxSize;
+
+            private int queueCapacity;
+
+            /**
+             * What to do with a task when the queue is full and all threads are busy.
+             */
+            private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+            public Pool(int coreSize, int maxSize, int queueCapacity) {
+                this.coreSize = coreSize;
+                this.maxSize = maxSize;
+                this.queueCapacity = queueCapacity;
+            }
+
+            public int getCoreSize() {
+                return coreSize;
+            }
+
+            public void setCoreSize(int coreSize) {
+                this.coreSize = coreSize;
+            }
+
+            public int getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(int maxSize) {
+                this.maxSize = maxSize;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+
+            public RejectionPolicy getRejectionPolicy() {
+                return rejectionPolicy;
+            }
+
+            public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+                this.rejectionPolicy = rejectionPolicy;
+            }
+        }
+
+        public enum RejectionPolicy {
+            /**
+             * Run the task on the submitting thread, which slows the producer down.
+             */
+            CALLER_RUNS,
+            /**
+             * Throw a {@link java.util.concurrent.RejectedExecutionException}.
+             */
+            ABORT,
+            /**
+             * Drop the task silently.
+             */
+            DISCARD,
+        }
+    }
+
+    public static class BlogPostStats {
+
+        /**
+         * Interval at which the view counts gathered in memory are added to the {@code blog_post_stats} table.
+         */
+        private long flushIntervalMs = 10_000;
+
+        /**
+         * Number of upserts sent to the database in one batch.
+         */
+        private int flushBatchSize = 500;
+
+        /**
+         * Number of most read blog posts kept in memory, the maximum size of {@code /api/blog-posts/popular}.
+         */
+        private int popularSize = 20;
+
+        public long getFlushIntervalMs() {
+            return flushIntervalMs;
+        }
+
+        public void setFlushIntervalMs(long flushIntervalMs) {
+            this.flushIntervalMs = flushIntervalMs;
+        }
+
+        public int getFlushBatchSize() {
+            return flushBatchSize;
+        }
+
+        public void setFlushBatchSize(int flushBatchSize) {
+            this.flushBatchSize = flushBatchSize;
+        }
+
+        public int getPopularSize() {
+            return popularSize;
+        }
+
+        public void setPopularSize(int popularSize) {
+            this.popularSize = popularSize;
+        }
+    }
+
+    public static class BlogPostPublishing {
+
+        /**
+         * Number of due posts published in one transaction.
+         */
+        private int batchSize = 100;
+
+        /**
+         * Longest wait before looking for due posts again, in case a change made on another instance was missed.
+         */
+        private long maxSleepMs = 300_000;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getMaxSleepMs() {
+            return maxSleepMs;
+        }
+
+        public void setMaxSleepMs(long maxSleepMs) {
+            this.maxSleepMs = maxSleepMs;
+        }
+    }
+
+    public static class Revisions {
+
+        /**
+         * Every n-th revision stores the whole content, so that rebuilding a revision applies at most n - 1 deltas.
+         */
+        private int snapshotInterval = 20;
+
+        public int getSnapshotInterval() {
+            return snapshotInterval;
+        }
+
+        public void setSnapshotInterval(int snapshotInterval) {
+            this.snapshotInterval = snapshotInterval;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -1,46 +1,151 @@
 package at.alpscraft.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import tech.jhipster.async.ExceptionHandlingAsyncTaskExecutor;
 
+/**
+ * Configures the default {@code taskExecutor}, used by unqualified {@code @Async} methods, and one named executor per
+ * workload, sized by {@code application.executors}, so that a burst of one workload cannot starve the others.
+ * <p>
+ * Every executor is monitored under the {@code executor} meters, tagged with its name. When virtual threads are enabled
+ * with {@code spring.threads.virtual.enabled} on Java 21 or newer, the pools are replaced by virtual threads, with at
+ * most the configured maximum size running at once per executor.
+ */
 @Configuration
 @EnableAsync
 @EnableScheduling
 @Profile("!testdev & !testprod")
-public class AsyncConfiguration implements AsyncConfigurer {
+public class AsyncConfiguration implements AsyncConfigurer, SmartInitializingSingleton {
 
     private static final Logger LOG = LoggerFactory.getLogger(AsyncConfiguration.class);
 
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final ApplicationProperties.Executors executorsProperties;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final boolean virtualThreads;
+
+    private final Map<String, ThreadPoolTaskExecutor> executors = new LinkedHashMap<>();
+
+    public AsyncConfiguration(
+        TaskExecutionProperties taskExecutionProperties,
+        ApplicationProperties applicationProperties,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        Environment environment
+    ) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.executorsProperties = applicationProperties.getExecutors();
+        this.meterRegistry = meterRegistry;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
     }
 
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
         LOG.debug("Creating Async Task Executor");
+        TaskExecutionProperties.Pool pool = taskExecutionProperties.getPool();
+        if (virtualThreads) {
+            return new ExceptionHandlingAsyncTaskExecutor(
+                virtualThreadExecutor(taskExecutionProperties.getThreadNamePrefix(), pool.getMaxSize())
+            );
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
-        executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
-        executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
         executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executors.put("task", executor);
         return new ExceptionHandlingAsyncTaskExecutor(executor);
     }
 
+    @Bean(name = "mailExecutor")
+    public Executor mailExecutor() {
+        return createExecutor("mail", executorsProperties.getMail());
+    }
+
+    @Bean(name = "cacheWarmupExecutor")
+    public Executor cacheWarmupExecutor() {
+        return createExecutor("cache-warmup", executorsProperties.getCacheWarmup());
+    }
+
+    @Bean(name = "maintenanceExecutor")
+    public Executor maintenanceExecutor() {
+        return createExecutor("maintenance", executorsProperties.getMaintenance());
+    }
+
+    private Executor createExecutor(String name, ApplicationProperties.Executors.Pool pool) {
+        LOG.debug("Creating {} executor", name);
+        if (virtualThreads) {
+            return new ExceptionHandlingAsyncTaskExecutor(virtualThreadExecutor("alpscraft-cms-" + name + "-", pool.getMaxSize()));
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix("alpscraft-cms-" + name + "-");
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler(pool.getRejectionPolicy()));
+        executors.put(name, executor);
+        return new ExceptionHandlingAsyncTaskExecutor(executor);
+    }
+
+    /**
+     * Starts a virtual thread per task; submitters block once {@code concurrencyLimit} tasks are running.
+     */
+    private static AsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+
+    private static RejectedExecutionHandler rejectedExecutionHandler(ApplicationProperties.Executors.RejectionPolicy rejectionPolicy) {
+        return switch (rejectionPolicy) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+        };
+    }
+
+    /**
+     * Monitors the executors once they are initialized, which Spring Boot does not do as they are wrapped.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        meterRegistry.ifAvailable(registry ->
+            executors.forEach((name, executor) ->
+                new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(registry)
+            )
+        );
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
@@ -1,10 +1,25 @@
 package at.alpscraft.config;
 
+import at.alpscraft.security.jwt.DecodedJwtExpiry;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+import javax.cache.Caching;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
+import org.ehcache.impl.serialization.PlainJavaSerializer;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.info.BuildProperties;
@@ -19,22 +34,41 @@ import tech.jhipster.config.cache.PrefixedKeyGenerator;
 @EnableCaching
 public class CacheConfiguration {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CacheConfiguration.class);
+
+    private static final ApplicationProperties.Cache.Region DEFAULT_REGION = new ApplicationProperties.Cache.Region();
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
-    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
-
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
-
-        jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
-            CacheConfigurationBuilder.newCacheConfigurationBuilder(
-                Object.class,
-                Object.class,
-                ResourcePoolsBuilder.heap(ehcache.getMaxEntries())
-            )
-                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
-                .build()
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+    private final ApplicationProperties.Cache cacheProperties;
+
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.cacheProperties = applicationProperties.getCache();
+    }
+
+    /**
+     * Cache manager with a persistence directory, needed by the caches with a disk tier.
+     * <p>
+     * It replaces the cache manager auto-configured by Spring Boot, so the {@link JCacheManagerCustomizer}s are applied
+     * here.
+     *
+     * @param customizers the customizers creating the caches.
+     * @return the cache manager.
+     */
+    @Bean
+    @ConditionalOnProperty("application.cache.disk-path")
+    public javax.cache.CacheManager jCacheCacheManager(ObjectProvider<JCacheManagerCustomizer> customizers) {
+        LOG.info("Storing the disk tiers of the caches in {}", cacheProperties.getDiskPath());
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        DefaultConfiguration configuration = new DefaultConfiguration(
+            provider.getDefaultClassLoader(),
+            new DefaultPersistenceConfiguration(Path.of(cacheProperties.getDiskPath()).toFile())
         );
+        javax.cache.CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), configuration);
+        customizers.orderedStream().forEach(customizer -> customizer.customize(cacheManager));
+        return cacheManager;
     }
 
     @Bean
@@ -55,17 +89,70 @@ public class CacheConfiguration {
             createCache(cm, at.alpscraft.domain.StaticPage.class.getName());
             createCache(cm, at.alpscraft.domain.UiSection.class.getName());
             createCache(cm, at.alpscraft.domain.UiSectionElement.class.getName());
+            createCache(cm, at.alpscraft.service.RenderedContentCache.STATIC_PAGES_CACHE);
+            createCache(cm, at.alpscraft.service.RenderedContentCache.BLOG_POSTS_CACHE);
+            createCache(cm, at.alpscraft.security.jwt.CachingJwtDecoder.DECODED_TOKENS_CACHE, DecodedJwtExpiry::new);
             // jhipster-needle-ehcache-add-entry
+            cacheProperties
+                .getRegions()
+                .keySet()
+                .stream()
+                .filter(cacheName -> cm.getCache(cacheName) == null)
+                .forEach(cacheName -> LOG.warn("Settings of unknown cache {} are ignored", cacheName));
         };
     }
 
     private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        createCache(cm, cacheName, ExpiryPolicyBuilder::timeToLiveExpiration);
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName, Function<Duration, ExpiryPolicy<Object, Object>> expiry) {
         javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, jcacheConfiguration(cacheName, expiry));
+        }
+    }
+
+    /**
+     * Build the configuration of a cache: a heap tier, and the optional off-heap and disk tiers of its region settings.
+     * <p>
+     * Entries of the off-heap and disk tiers are stored serialized, so their keys and values must be {@link java.io.Serializable}.
+     *
+     * @param expiry the expiry policy of the cache, given its time to live.
+     */
+    private javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration(
+        String cacheName,
+        Function<Duration, ExpiryPolicy<Object, Object>> expiry
+    ) {
+        ApplicationProperties.Cache.Region region = cacheProperties.getRegions().getOrDefault(cacheName, DEFAULT_REGION);
+        long heapEntries = Objects.requireNonNullElse(region.getHeapEntries(), (long) ehcache.getMaxEntries());
+        long timeToLiveSeconds = Objects.requireNonNullElse(region.getTimeToLiveSeconds(), (long) ehcache.getTimeToLiveSeconds());
+
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(heapEntries);
+        if (region.getOffHeapMb() != null) {
+            resourcePools = resourcePools.offheap(region.getOffHeapMb(), MemoryUnit.MB);
+        }
+        if (region.getDiskMb() != null) {
+            if (cacheProperties.getDiskPath() == null) {
+                throw new IllegalStateException("application.cache.disk-path must be set to give a disk tier to cache " + cacheName);
+            }
+            resourcePools = resourcePools.disk(region.getDiskMb(), MemoryUnit.MB, region.isDiskPersistent());
+        }
+
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+            Object.class,
+            Object.class,
+            resourcePools
+        ).withExpiry(expiry.apply(Duration.ofSeconds(timeToLiveSeconds)));
+        if (region.getOffHeapMb() != null || region.getDiskMb() != null) {
+            ClassLoader classLoader = getClass().getClassLoader();
+            builder = builder
+                .withKeySerializer(new PlainJavaSerializer<>(classLoader))
+                .withValueSerializer(new PlainJavaSerializer<>(classLoader));
         }
+        return Eh107Configuration.fromEhcacheCacheConfiguration(builder.build());
     }
 
     @Autowired(required = false)
@@ -11,5 +11,8 @@ public final class Constants {
     public static final String SYSTEM = "system";
     public static final String DEFAULT_LANGUAGE = "de";
 
+    // Spring profile bulk-inserting a large generated corpus at startup, see DataGenerator
+    public static final String SPRING_PROFILE_DATAGEN = "datagen";
+
     private Constants() {}
 }
@@ -4,6 +4,9 @@ import static org.springframework.security.config.Customizer.withDefaults;
 
 import at.alpscraft.security.*;
 import at.alpscraft.web.filter.SpaWebFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,7 +15,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
 import org.springframework.security.oauth2.server.resource.web.access.BearerTokenAccessDeniedHandler;
 import org.springframework.security.web.SecurityFilterChain;
@@ -33,8 +35,27 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        ApplicationProperties.Security.PasswordHashing passwordHashing = applicationProperties.getSecurity().getPasswordHashing();
+        return new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(),
+            passwordHashing.getThreads(),
+            passwordHashing.getQueueCapacity(),
+            passwordHashing.getMaxWaitMs(),
+            meterRegistry
+        );
+    }
+
+    @Bean
+    public LoginAttemptLimiter loginAttemptLimiter(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        ApplicationProperties.Security.LoginThrottling loginThrottling = applicationProperties.getSecurity().getLoginThrottling();
+        return new LoginAttemptLimiter(
+            loginThrottling.getMaxFailuresPerLogin(),
+            loginThrottling.getMaxFailuresPerAddress(),
+            Duration.ofSeconds(loginThrottling.getWindowSeconds()),
+            meterRegistry,
+            Clock.systemUTC()
+        );
     }
 
     @Bean
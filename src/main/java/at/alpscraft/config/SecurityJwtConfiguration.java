@@ -3,6 +3,8 @@ package at.alpscraft.config;
 import static at.alpscraft.security.SecurityUtils.JWT_ALGORITHM;
 
 import at.alpscraft.management.SecurityMetersService;
+import at.alpscraft.security.jwt.CachingJwtDecoder;
+import at.alpscraft.security.jwt.TokenRevocationList;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.util.Base64;
 import javax.crypto.SecretKey;
@@ -10,10 +12,14 @@ import javax.crypto.spec.SecretKeySpec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
@@ -26,9 +32,20 @@ public class SecurityJwtConfiguration {
     private String jwtKey;
 
     @Bean
-    public JwtDecoder jwtDecoder(SecurityMetersService metersService) {
+    public TokenRevocationList tokenRevocationList(ApplicationProperties applicationProperties) {
+        ApplicationProperties.Security.TokenRevocation tokenRevocation = applicationProperties.getSecurity().getTokenRevocation();
+        return new TokenRevocationList(tokenRevocation.getExpectedRevokedTokens(), tokenRevocation.getFalsePositiveRate());
+    }
+
+    @Bean
+    public CachingJwtDecoder jwtDecoder(
+        SecurityMetersService metersService,
+        CacheManager cacheManager,
+        TokenRevocationList tokenRevocationList
+    ) {
         NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(getSecretKey()).macAlgorithm(JWT_ALGORITHM).build();
-        return token -> {
+        jwtDecoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), tokenRevocationList));
+        JwtDecoder meteredJwtDecoder = token -> {
             try {
                 return jwtDecoder.decode(token);
             } catch (Exception e) {
@@ -42,12 +59,20 @@ public class SecurityJwtConfiguration {
                     e.getMessage().contains("Invalid unsecured/JWS/JWE")
                 ) {
                     metersService.trackTokenMalformed();
+                } else if (e.getMessage().contains(TokenRevocationList.REVOKED_DESCRIPTION)) {
+                    metersService.trackTokenRevoked();
                 } else {
                     LOG.error("Unknown JWT error {}", e.getMessage());
                 }
                 throw e;
             }
         };
+        // cached tokens are only checked again for expiry, as by the default validator of NimbusJwtDecoder, and for revocation
+        return new CachingJwtDecoder(
+            meteredJwtDecoder,
+            cacheManager.getCache(CachingJwtDecoder.DECODED_TOKENS_CACHE),
+            new DelegatingOAuth2TokenValidator<>(new JwtTimestampValidator(), tokenRevocationList)
+        );
     }
 
     @Bean
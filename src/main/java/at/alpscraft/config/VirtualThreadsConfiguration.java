@@ -0,0 +1,52 @@
+package at.alpscraft.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowDeploymentInfoCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Handles servlet requests on virtual threads when {@code spring.threads.virtual.enabled} is set and the runtime is Java
+ * 21 or newer. Spring Boot already does this for Tomcat and Jetty, and for its own executors and scheduler; the
+ * {@code @Async} executors are switched in {@link AsyncConfiguration}.
+ * <p>
+ * Request concurrency is then bounded by the database connections rather than by Undertow's worker threads, so the
+ * Hikari pool is guarded by a {@link BoundedDataSource}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    @Bean
+    public UndertowDeploymentInfoCustomizer virtualThreadsDeploymentInfoCustomizer() {
+        LOG.info("Dispatching servlet requests on virtual threads");
+        return deploymentInfo -> deploymentInfo.setExecutor(new VirtualThreadTaskExecutor("alpscraft-cms-request-"));
+    }
+
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikariDataSource) {
+                    return new BoundedDataSource(
+                        hikariDataSource,
+                        hikariDataSource.getMaximumPoolSize(),
+                        Duration.ofMillis(hikariDataSource.getConnectionTimeout())
+                    );
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,8 +1,10 @@
 package at.alpscraft.domain;
 
+import at.alpscraft.domain.enumeration.PostStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
+import java.time.Instant;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 
@@ -31,12 +33,27 @@ public class BlogPost implements Serializable {
     @Column(name = "content", nullable = false)
     private String content;
 
+    /**
+     * Posts are created published unless stated otherwise, see {@link #defaultStatus()}; scheduled posts are published at
+     * {@code publishAt} by the {@code BlogPostPublisher}.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PostStatus status;
+
+    @Column(name = "publish_at")
+    private Instant publishAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private PostCategory category;
 
     @ManyToOne(fetch = FetchType.LAZY)
     private User author;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -78,6 +95,32 @@ public class BlogPost implements Serializable {
         this.content = content;
     }
 
+    public PostStatus getStatus() {
+        return this.status;
+    }
+
+    public BlogPost status(PostStatus status) {
+        this.setStatus(status);
+        return this;
+    }
+
+    public void setStatus(PostStatus status) {
+        this.status = status;
+    }
+
+    public Instant getPublishAt() {
+        return this.publishAt;
+    }
+
+    public BlogPost publishAt(Instant publishAt) {
+        this.setPublishAt(publishAt);
+        return this;
+    }
+
+    public void setPublishAt(Instant publishAt) {
+        this.publishAt = publishAt;
+    }
+
     public PostCategory getCategory() {
         return this.category;
     }
@@ -104,8 +147,29 @@ public class BlogPost implements Serializable {
         return this;
     }
 
+    public Integer getVersion() {
+        return this.version;
+    }
+
+    public BlogPost version(Integer version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
+    // not a field default, so that a partial update without a status leaves it unchanged
+    @PrePersist
+    void defaultStatus() {
+        if (status == null) {
+            status = PostStatus.PUBLISHED;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -130,6 +194,9 @@ public class BlogPost implements Serializable {
             "id=" + getId() +
             ", title='" + getTitle() + "'" +
             ", content='" + getContent() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", publishAt='" + getPublishAt() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
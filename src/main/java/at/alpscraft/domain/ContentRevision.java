@@ -0,0 +1,208 @@
+package at.alpscraft.domain;
+
+import at.alpscraft.domain.enumeration.RevisionEntityType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A revision of the content of a blog post or a static page.
+ * <p>
+ * {@code delta} holds the compressed changes to the content of the previous revision, or the whole content when
+ * {@code snapshot} is set, so that a revision is rebuilt from the last snapshot before it.
+ */
+@Entity
+@Table(name = "content_revision")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ContentRevision implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private RevisionEntityType entityType;
+
+    @NotNull
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @NotNull
+    @Column(name = "revision", nullable = false)
+    private Integer revision;
+
+    @NotNull
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @NotNull
+    @Column(name = "snapshot", nullable = false)
+    private Boolean snapshot;
+
+    @NotNull
+    @Column(name = "delta", nullable = false)
+    private byte[] delta;
+
+    @Size(max = 50)
+    @Column(name = "created_by", length = 50)
+    private String createdBy;
+
+    @NotNull
+    @Column(name = "created_date", nullable = false)
+    private Instant createdDate;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public ContentRevision id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public RevisionEntityType getEntityType() {
+        return this.entityType;
+    }
+
+    public ContentRevision entityType(RevisionEntityType entityType) {
+        this.setEntityType(entityType);
+        return this;
+    }
+
+    public void setEntityType(RevisionEntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return this.entityId;
+    }
+
+    public ContentRevision entityId(Long entityId) {
+        this.setEntityId(entityId);
+        return this;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public Integer getRevision() {
+        return this.revision;
+    }
+
+    public ContentRevision revision(Integer revision) {
+        this.setRevision(revision);
+        return this;
+    }
+
+    public void setRevision(Integer revision) {
+        this.revision = revision;
+    }
+
+    public String getTitle() {
+        return this.title;
+    }
+
+    public ContentRevision title(String title) {
+        this.setTitle(title);
+        return this;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Boolean getSnapshot() {
+        return this.snapshot;
+    }
+
+    public ContentRevision snapshot(Boolean snapshot) {
+        this.setSnapshot(snapshot);
+        return this;
+    }
+
+    public void setSnapshot(Boolean snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public byte[] getDelta() {
+        return this.delta;
+    }
+
+    public ContentRevision delta(byte[] delta) {
+        this.setDelta(delta);
+        return this;
+    }
+
+    public void setDelta(byte[] delta) {
+        this.delta = delta;
+    }
+
+    public String getCreatedBy() {
+        return this.createdBy;
+    }
+
+    public ContentRevision createdBy(String createdBy) {
+        this.setCreatedBy(createdBy);
+        return this;
+    }
+
+    public void setCreatedBy(String createdBy) {
+        this.createdBy = createdBy;
+    }
+
+    public Instant getCreatedDate() {
+        return this.createdDate;
+    }
+
+    public ContentRevision createdDate(Instant createdDate) {
+        this.setCreatedDate(createdDate);
+        return this;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContentRevision)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((ContentRevision) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ContentRevision{" +
+            "id=" + getId() +
+            ", entityType='" + getEntityType() + "'" +
+            ", entityId=" + getEntityId() +
+            ", revision=" + getRevision() +
+            ", snapshot='" + getSnapshot() + "'" +
+            ", createdBy='" + getCreatedBy() + "'" +
+            ", createdDate='" + getCreatedDate() + "'" +
+            "}";
+    }
+}
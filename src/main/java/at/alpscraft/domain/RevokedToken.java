@@ -0,0 +1,107 @@
+package at.alpscraft.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * A JWT revoked before its expiry, identified by its {@code jti} claim.
+ */
+@Entity
+@Table(name = "revoked_token")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class RevokedToken implements Serializable, Persistable<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotNull
+    @Size(max = 36)
+    @Id
+    @Column(name = "jti", length = 36, nullable = false)
+    private String jti;
+
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @org.springframework.data.annotation.Transient
+    @Transient
+    private boolean isPersisted;
+
+    public String getJti() {
+        return this.jti;
+    }
+
+    public RevokedToken jti(String jti) {
+        this.setJti(jti);
+        return this;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public Instant getExpiresAt() {
+        return this.expiresAt;
+    }
+
+    public RevokedToken expiresAt(Instant expiresAt) {
+        this.setExpiresAt(expiresAt);
+        return this;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    public void updateEntityState() {
+        this.setIsPersisted();
+    }
+
+    @Override
+    public String getId() {
+        return this.jti;
+    }
+
+    @org.springframework.data.annotation.Transient
+    @Transient
+    @Override
+    public boolean isNew() {
+        return !this.isPersisted;
+    }
+
+    public RevokedToken setIsPersisted() {
+        this.isPersisted = true;
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RevokedToken)) {
+            return false;
+        }
+        return getJti() != null && getJti().equals(((RevokedToken) o).getJti());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getJti());
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "RevokedToken{" +
+            "jti=" + getJti() +
+            ", expiresAt='" + getExpiresAt() + "'" +
+            "}";
+    }
+}
@@ -34,6 +34,10 @@ public class StaticPage implements Serializable {
     @ManyToOne(fetch = FetchType.LAZY)
     private User author;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -88,6 +92,19 @@ public class StaticPage implements Serializable {
         return this;
     }
 
+    public Integer getVersion() {
+        return this.version;
+    }
+
+    public StaticPage version(Integer version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -114,6 +131,7 @@ public class StaticPage implements Serializable {
             "id=" + getId() +
             ", title='" + getTitle() + "'" +
             ", content='" + getContent() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
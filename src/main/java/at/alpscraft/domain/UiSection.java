@@ -36,6 +36,10 @@ public class UiSection implements Serializable {
     @Column(name = "content", nullable = false)
     private String content;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -90,6 +94,19 @@ public class UiSection implements Serializable {
         this.content = content;
     }
 
+    public Integer getVersion() {
+        return this.version;
+    }
+
+    public UiSection version(Integer version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -117,6 +134,7 @@ public class UiSection implements Serializable {
             ", title='" + getTitle() + "'" +
             ", cssClass='" + getCssClass() + "'" +
             ", content='" + getContent() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
@@ -36,6 +36,10 @@ public class UiSectionElement implements Serializable {
     @ManyToOne(fetch = FetchType.LAZY)
     private UiSection uiSection;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -90,6 +94,19 @@ public class UiSectionElement implements Serializable {
         return this;
     }
 
+    public Integer getVersion() {
+        return this.version;
+    }
+
+    public UiSectionElement version(Integer version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -116,6 +133,7 @@ public class UiSectionElement implements Serializable {
             "id=" + getId() +
             ", title='" + getTitle() + "'" +
             ", content='" + getContent() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
@@ -0,0 +1,10 @@
+package at.alpscraft.domain.enumeration;
+
+/**
+ * The PostStatus enumeration.
+ */
+public enum PostStatus {
+    DRAFT,
+    SCHEDULED,
+    PUBLISHED,
+}
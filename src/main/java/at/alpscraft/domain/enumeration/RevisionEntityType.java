@@ -0,0 +1,9 @@
+package at.alpscraft.domain.enumeration;
+
+/**
+ * The entities whose content revisions are kept.
+ */
+public enum RevisionEntityType {
+    BLOG_POST,
+    STATIC_PAGE,
+}
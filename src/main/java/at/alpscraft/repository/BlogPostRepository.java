@@ -1,8 +1,16 @@
 package at.alpscraft.repository;
 
 import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.enumeration.PostStatus;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -11,6 +19,89 @@ import org.springframework.stereotype.Repository;
 @SuppressWarnings("unused")
 @Repository
 public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
+    @EntityGraph(attributePaths = { "category", "author" })
     @Query("select blogPost from BlogPost blogPost where blogPost.author.login = ?#{authentication.name}")
     List<BlogPost> findByAuthorIsCurrentUser();
+
+    @EntityGraph(attributePaths = { "category", "author" })
+    Page<BlogPost> findAllWithToOneRelationshipsByStatusIn(Collection<PostStatus> statuses, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "category", "author" })
+    Optional<BlogPost> findOneWithToOneRelationshipsById(Long id);
+
+    <T> Page<T> findAllByStatusIn(Collection<PostStatus> statuses, Pageable pageable, Class<T> type);
+
+    <T> List<T> findAllByStatusInOrderByIdAsc(Collection<PostStatus> statuses, Limit limit, Class<T> type);
+
+    <T> List<T> findAllByStatusInAndIdGreaterThanOrderByIdAsc(Collection<PostStatus> statuses, Long id, Limit limit, Class<T> type);
+
+    /**
+     * Full-text search over the title and content of the published posts, best matches first. The query uses the web
+     * search syntax of PostgreSQL (quoted phrases, {@code or}, {@code -} to exclude a word) and is served by the GIN index
+     * on {@code search_vector}.
+     * <p>
+     * The order is part of the query, the pageable must be unsorted.
+     */
+    @Query(
+        value = "select blogPost.id as id, blogPost.title as title " +
+        "from blog_post blogPost, websearch_to_tsquery('german', :query) search_query " +
+        "where blogPost.search_vector @@ search_query and blogPost.status = 'PUBLISHED' " +
+        "order by ts_rank_cd(blogPost.search_vector, search_query) desc, blogPost.id desc",
+        countQuery = "select count(*) from blog_post blogPost " +
+        "where blogPost.search_vector @@ websearch_to_tsquery('german', :query) and blogPost.status = 'PUBLISHED'",
+        nativeQuery = true
+    )
+    Page<BlogPostSummary> search(@Param("query") String query, Pageable pageable);
+
+    /**
+     * The most read published blog posts, from the view counts flushed to {@code blog_post_stats}, served by the index on
+     * {@code view_count}.
+     */
+    @Query(
+        value = "select blogPost.id as id, blogPost.title as title, stats.view_count as viewCount " +
+        "from blog_post_stats stats join blog_post blogPost on blogPost.id = stats.blog_post_id " +
+        "where blogPost.status = 'PUBLISHED' " +
+        "order by stats.view_count desc, blogPost.id desc limit :limit",
+        nativeQuery = true
+    )
+    List<PopularBlogPost> findMostRead(@Param("limit") int limit);
+
+    /**
+     * The published blog posts, the most read first from the view counts flushed to {@code blog_post_stats}, then the
+     * newest ones.
+     * <p>
+     * The order is part of the query, the pageable must be unsorted.
+     */
+    @Query(
+        value = "select blogPost.* from blog_post blogPost " +
+        "left join blog_post_stats stats on stats.blog_post_id = blogPost.id " +
+        "where blogPost.status = 'PUBLISHED' " +
+        "order by stats.view_count desc nulls last, blogPost.id desc",
+        nativeQuery = true
+    )
+    List<BlogPost> findAllPublishedOrderByViewCount(Pageable pageable);
+
+    /**
+     * Locks the scheduled posts due for publication, oldest first, skipping the ones locked by other instances, until the
+     * end of the transaction. Served by the index on {@code (status, publish_at)}.
+     */
+    @Query(
+        value = "select * from blog_post where status = 'SCHEDULED' and publish_at <= :now " +
+        "order by publish_at, id limit :limit for update skip locked",
+        nativeQuery = true
+    )
+    List<BlogPost> findDueForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * The publication date of the next scheduled post, served by the index on {@code (status, publish_at)}.
+     */
+    @Query("select min(blogPost.publishAt) from BlogPost blogPost where blogPost.status = :status")
+    Optional<Instant> findFirstPublishAtByStatus(@Param("status") PostStatus status);
+
+    /**
+     * Locks the row of the blogPost until the end of the transaction, so that its concurrent edits record their revisions
+     * one after the other.
+     */
+    @Query(value = "select id from blog_post where id = :id for update", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
 }
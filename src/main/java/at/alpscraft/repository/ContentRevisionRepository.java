@@ -0,0 +1,44 @@
+package at.alpscraft.repository;
+
+import at.alpscraft.domain.ContentRevision;
+import at.alpscraft.domain.enumeration.RevisionEntityType;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the ContentRevision entity.
+ */
+@Repository
+public interface ContentRevisionRepository extends JpaRepository<ContentRevision, Long> {
+    List<ContentRevisionSummary> findAllByEntityTypeAndEntityIdOrderByRevisionDesc(RevisionEntityType entityType, Long entityId);
+
+    Optional<ContentRevision> findFirstByEntityTypeAndEntityIdOrderByRevisionDesc(RevisionEntityType entityType, Long entityId);
+
+    /**
+     * The revisions needed to rebuild a revision: the last snapshot up to it, followed by the deltas after that snapshot.
+     */
+    @Query(
+        "select contentRevision from ContentRevision contentRevision " +
+        "where contentRevision.entityType = :entityType and contentRevision.entityId = :entityId " +
+        "and contentRevision.revision <= :revision and contentRevision.revision >= (" +
+        "select max(snapshot.revision) from ContentRevision snapshot " +
+        "where snapshot.entityType = :entityType and snapshot.entityId = :entityId " +
+        "and snapshot.revision <= :revision and snapshot.snapshot = true) " +
+        "order by contentRevision.revision"
+    )
+    List<ContentRevision> findChainTo(
+        @Param("entityType") RevisionEntityType entityType,
+        @Param("entityId") Long entityId,
+        @Param("revision") Integer revision
+    );
+
+    @Modifying
+    @Query(
+        "delete from ContentRevision contentRevision " +
+        "where contentRevision.entityType = :entityType and contentRevision.entityId = :entityId"
+    )
+    int deleteAllOf(@Param("entityType") RevisionEntityType entityType, @Param("entityId") Long entityId);
+}
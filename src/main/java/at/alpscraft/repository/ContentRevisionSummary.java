@@ -0,0 +1,17 @@
+package at.alpscraft.repository;
+
+import java.time.Instant;
+
+/**
+ * Closed projection of the {@link at.alpscraft.domain.ContentRevision} entity for the revision history: the delta is never
+ * read.
+ */
+public interface ContentRevisionSummary {
+    Integer getRevision();
+
+    String getTitle();
+
+    String getCreatedBy();
+
+    Instant getCreatedDate();
+}
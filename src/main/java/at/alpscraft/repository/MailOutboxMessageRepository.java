@@ -0,0 +1,27 @@
+package at.alpscraft.repository;
+
+import at.alpscraft.domain.MailOutboxMessage;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the MailOutboxMessage entity.
+ */
+@Repository
+public interface MailOutboxMessageRepository extends JpaRepository<MailOutboxMessage, Long> {
+    /**
+     * Locks the oldest messages due for delivery, skipping the ones locked by other instances, until the end of the
+     * transaction.
+     */
+    @Query(
+        value = "select * from mail_outbox_message where next_attempt_at <= :now " +
+        "order by next_attempt_at, id limit :limit for update skip locked",
+        nativeQuery = true
+    )
+    List<MailOutboxMessage> findDueForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+
+    long countByNextAttemptAtIsNotNull();
+}
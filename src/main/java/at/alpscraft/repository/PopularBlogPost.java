@@ -0,0 +1,12 @@
+package at.alpscraft.repository;
+
+/**
+ * Projection of a {@link at.alpscraft.domain.BlogPost} with its view count, for the most read ranking.
+ */
+public interface PopularBlogPost {
+    Long getId();
+
+    String getTitle();
+
+    Long getViewCount();
+}
@@ -0,0 +1,21 @@
+package at.alpscraft.repository;
+
+import at.alpscraft.domain.RevokedToken;
+import java.time.Instant;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the RevokedToken entity.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    @Query("select revokedToken.jti from RevokedToken revokedToken where revokedToken.expiresAt > :now")
+    Stream<String> streamJtisByExpiresAtAfter(@Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from RevokedToken revokedToken where revokedToken.expiresAt <= :now")
+    int deleteByExpiresAtNotAfter(@Param("now") Instant now);
+}
@@ -2,7 +2,11 @@ package at.alpscraft.repository;
 
 import at.alpscraft.domain.StaticPage;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -13,4 +17,29 @@ import org.springframework.stereotype.Repository;
 public interface StaticPageRepository extends JpaRepository<StaticPage, Long> {
     @Query("select staticPage from StaticPage staticPage where staticPage.author.login = ?#{authentication.name}")
     List<StaticPage> findByAuthorIsCurrentUser();
+
+    <T> List<T> findAllBy(Class<T> type);
+
+    /**
+     * Full-text search over the title and content, best matches first. The query uses the web search syntax of PostgreSQL
+     * (quoted phrases, {@code or}, {@code -} to exclude a word) and is served by the GIN index on {@code search_vector}.
+     * <p>
+     * The order is part of the query, the pageable must be unsorted.
+     */
+    @Query(
+        value = "select staticPage.id as id, staticPage.title as title " +
+        "from static_page staticPage, websearch_to_tsquery('german', :query) search_query " +
+        "where staticPage.search_vector @@ search_query " +
+        "order by ts_rank_cd(staticPage.search_vector, search_query) desc, staticPage.id desc",
+        countQuery = "select count(*) from static_page staticPage where staticPage.search_vector @@ websearch_to_tsquery('german', :query)",
+        nativeQuery = true
+    )
+    Page<StaticPageSummary> search(@Param("query") String query, Pageable pageable);
+
+    /**
+     * Locks the row of the staticPage until the end of the transaction, so that its concurrent edits record their revisions
+     * one after the other.
+     */
+    @Query(value = "select id from static_page where id = :id for update", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
 }
@@ -0,0 +1,11 @@
+package at.alpscraft.repository;
+
+/**
+ * Closed projection of the {@link at.alpscraft.domain.StaticPage} entity for list views: only the id and title are selected,
+ * the {@code content} body is never read.
+ */
+public interface StaticPageSummary {
+    Long getId();
+
+    String getTitle();
+}
@@ -1,6 +1,7 @@
 package at.alpscraft.repository;
 
 import at.alpscraft.domain.UiSectionElement;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +10,10 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface UiSectionElementRepository extends JpaRepository<UiSectionElement, Long> {}
+public interface UiSectionElementRepository extends JpaRepository<UiSectionElement, Long> {
+    @Query(
+        "select uiSectionElement.id as id, uiSectionElement.title as title, uiSectionElement.uiSection.id as uiSectionId " +
+        "from UiSectionElement uiSectionElement"
+    )
+    List<UiSectionElementSummary> findAllSummaries();
+}
@@ -0,0 +1,15 @@
+package at.alpscraft.repository;
+
+import at.alpscraft.domain.enumeration.SectionType;
+
+/**
+ * Closed projection of the {@link at.alpscraft.domain.UiSectionElement} entity for list views, without the {@code content} body.
+ * The owning section is exposed by id only, read from the foreign key column.
+ */
+public interface UiSectionElementSummary {
+    Long getId();
+
+    SectionType getTitle();
+
+    Long getUiSectionId();
+}
@@ -1,6 +1,7 @@
 package at.alpscraft.repository;
 
 import at.alpscraft.domain.UiSection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +10,13 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface UiSectionRepository extends JpaRepository<UiSection, Long> {}
+public interface UiSectionRepository extends JpaRepository<UiSection, Long> {
+    <T> List<T> findAllBy(Class<T> type);
+
+    @Query(
+        "select uiSection as section, uiSectionElement as element from UiSection uiSection " +
+        "left join UiSectionElement uiSectionElement on uiSectionElement.uiSection = uiSection " +
+        "order by uiSection.id, uiSectionElement.id"
+    )
+    List<UiSectionWithElement> findAllWithElements();
+}
@@ -0,0 +1,14 @@
+package at.alpscraft.repository;
+
+import at.alpscraft.domain.enumeration.SectionType;
+
+/**
+ * Closed projection of the {@link at.alpscraft.domain.UiSection} entity for list views, without the {@code content} body.
+ */
+public interface UiSectionSummary {
+    Long getId();
+
+    SectionType getTitle();
+
+    String getCssClass();
+}
@@ -0,0 +1,14 @@
+package at.alpscraft.repository;
+
+import at.alpscraft.domain.UiSection;
+import at.alpscraft.domain.UiSectionElement;
+
+/**
+ * A row of the {@link UiSection} to {@link UiSectionElement} outer join, with a {@code null} element for sections
+ * without elements.
+ */
+public interface UiSectionWithElement {
+    UiSection getSection();
+
+    UiSectionElement getElement();
+}
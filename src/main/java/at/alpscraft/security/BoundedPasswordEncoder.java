@@ -0,0 +1,123 @@
+package at.alpscraft.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} running the hashing of its delegate on a dedicated, fixed size executor with a bounded queue.
+ * <p>
+ * Hashing is CPU bound by design: without a bound, a burst of logins or registrations would keep every request thread busy
+ * hashing and starve the other requests. Here at most {@code threads} passwords are hashed at once and at most
+ * {@code queueCapacity} wait; beyond that, or after waiting {@code maxWaitMillis}, a {@link PasswordHashingUnavailableException}
+ * is thrown at once and answered with {@code 503 (Service Unavailable)}.
+ * <p>
+ * The time spent queued and hashing is recorded in the {@value #QUEUE_WAIT_METER_NAME} and {@value #HASHING_METER_NAME}
+ * timers, tagged by operation, and the executor itself is monitored as {@value #EXECUTOR_NAME}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    public static final String EXECUTOR_NAME = "password-hashing";
+
+    public static final String QUEUE_WAIT_METER_NAME = "security.password-hashing.queue-wait";
+
+    public static final String HASHING_METER_NAME = "security.password-hashing.duration";
+
+    private static final String OPERATION_TAG = "operation";
+
+    private final PasswordEncoder delegate;
+
+    private final ExecutorService executor;
+
+    private final long maxWaitMillis;
+
+    private final Timer encodeQueueWait;
+
+    private final Timer matchesQueueWait;
+
+    private final Timer encodeHashing;
+
+    private final Timer matchesHashing;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long maxWaitMillis, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.maxWaitMillis = maxWaitMillis;
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory(EXECUTOR_NAME + "-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ExecutorServiceMetrics.monitor(registry, threadPoolExecutor, EXECUTOR_NAME);
+        this.encodeQueueWait = timer(QUEUE_WAIT_METER_NAME, "Time spent waiting for a password hashing thread", "encode", registry);
+        this.matchesQueueWait = timer(QUEUE_WAIT_METER_NAME, "Time spent waiting for a password hashing thread", "matches", registry);
+        this.encodeHashing = timer(HASHING_METER_NAME, "Time spent hashing a password", "encode", registry);
+        this.matchesHashing = timer(HASHING_METER_NAME, "Time spent hashing a password", "matches", registry);
+    }
+
+    private static Timer timer(String name, String description, String operation, MeterRegistry registry) {
+        return Timer.builder(name).description(description).tag(OPERATION_TAG, operation).register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), encodeQueueWait, encodeHashing);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword), matchesQueueWait, matchesHashing);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> hashing, Timer queueWait, Timer hashingTime) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return hashingTime.recordCallable(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingUnavailableException("Too many passwords being hashed", e);
+        }
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingUnavailableException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
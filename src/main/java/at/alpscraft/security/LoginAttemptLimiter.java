@@ -0,0 +1,175 @@
+package at.alpscraft.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Throttles logins by counting the failed attempts per login and per client address over a sliding window.
+ * <p>
+ * {@link #checkAllowed(String, String)} is called before the user is loaded and the password is checked, so that brute-force
+ * traffic is rejected with a {@link LoginThrottledException} before any database or hashing work. A successful login clears
+ * the failures of its login, but not of its address.
+ * <p>
+ * Each key is counted with a sliding window counter: the failures of the current and of the previous window, the latter
+ * weighted by the part of it still covered by the sliding window. The counts are swapped by compare-and-set, so neither
+ * recording nor checking takes a lock, and stale keys are dropped periodically.
+ */
+public class LoginAttemptLimiter {
+
+    public static final String THROTTLED_METER_NAME = "security.login.throttled";
+
+    public static final String FAILURES_METER_NAME = "security.login.failures";
+
+    private final int maxFailuresPerLogin;
+
+    private final int maxFailuresPerAddress;
+
+    private final long windowMillis;
+
+    private final Clock clock;
+
+    private final ConcurrentMap<String, SlidingWindow> failuresByLogin = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, SlidingWindow> failuresByAddress = new ConcurrentHashMap<>();
+
+    private final Counter throttledByLogin;
+
+    private final Counter throttledByAddress;
+
+    private final Counter failures;
+
+    public LoginAttemptLimiter(int maxFailuresPerLogin, int maxFailuresPerAddress, Duration window, MeterRegistry registry, Clock clock) {
+        this.maxFailuresPerLogin = maxFailuresPerLogin;
+        this.maxFailuresPerAddress = maxFailuresPerAddress;
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+        this.throttledByLogin = throttledCounter("login", registry);
+        this.throttledByAddress = throttledCounter("address", registry);
+        this.failures = Counter.builder(FAILURES_METER_NAME).description("Number of failed logins").register(registry);
+        Gauge.builder("security.login.tracked", failuresByLogin, Map::size)
+            .description("Number of logins with recent failures")
+            .tag("key", "login")
+            .register(registry);
+        Gauge.builder("security.login.tracked", failuresByAddress, Map::size)
+            .description("Number of client addresses with recent failures")
+            .tag("key", "address")
+            .register(registry);
+    }
+
+    private static Counter throttledCounter(String key, MeterRegistry registry) {
+        return Counter.builder(THROTTLED_METER_NAME).description("Number of rejected login attempts").tag("key", key).register(registry);
+    }
+
+    /**
+     * Checks that a login may be attempted.
+     *
+     * @param login the login or email being authenticated.
+     * @param address the client address.
+     * @throws LoginThrottledException if the login or the address has too many recent failures.
+     */
+    public void checkAllowed(String login, String address) {
+        long now = clock.millis();
+        long retryAfterMillis = retryAfterMillis(failuresByLogin.get(normalize(login)), maxFailuresPerLogin, now);
+        if (retryAfterMillis > 0) {
+            throttledByLogin.increment();
+            throw new LoginThrottledException("Too many failed logins, please try again later", toSeconds(retryAfterMillis));
+        }
+        retryAfterMillis = retryAfterMillis(failuresByAddress.get(address), maxFailuresPerAddress, now);
+        if (retryAfterMillis > 0) {
+            throttledByAddress.increment();
+            throw new LoginThrottledException("Too many failed logins, please try again later", toSeconds(retryAfterMillis));
+        }
+    }
+
+    public void loginFailed(String login, String address) {
+        long now = clock.millis();
+        failures.increment();
+        failuresByLogin.computeIfAbsent(normalize(login), key -> new SlidingWindow()).increment(now, windowMillis);
+        failuresByAddress.computeIfAbsent(address, key -> new SlidingWindow()).increment(now, windowMillis);
+    }
+
+    public void loginSucceeded(String login) {
+        failuresByLogin.remove(normalize(login));
+    }
+
+    /**
+     * Drops the keys without failures in the last two windows, which no longer count.
+     */
+    @Scheduled(fixedDelayString = "${application.security.login-throttling.cleanup-interval-ms:60000}")
+    public void removeStaleEntries() {
+        long now = clock.millis();
+        failuresByLogin.values().removeIf(window -> window.isStale(now, windowMillis));
+        failuresByAddress.values().removeIf(window -> window.isStale(now, windowMillis));
+    }
+
+    private long retryAfterMillis(SlidingWindow window, int maxFailures, long now) {
+        return window == null ? 0 : window.counts(now, windowMillis).retryAfterMillis(maxFailures, now, windowMillis);
+    }
+
+    private static String normalize(String login) {
+        return login == null ? "" : login.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static final class SlidingWindow {
+
+        private final AtomicReference<Counts> counts = new AtomicReference<>(new Counts(0, 0, 0));
+
+        void increment(long now, long windowMillis) {
+            counts.updateAndGet(current -> current.rolledTo(now, windowMillis).incremented());
+        }
+
+        Counts counts(long now, long windowMillis) {
+            return counts.get().rolledTo(now, windowMillis);
+        }
+
+        boolean isStale(long now, long windowMillis) {
+            return now - counts.get().start() >= 2 * windowMillis;
+        }
+    }
+
+    /**
+     * Failures counted in the window starting at {@code start} and in the one before it.
+     */
+    private record Counts(long start, int previous, int current) {
+        Counts rolledTo(long now, long windowMillis) {
+            long elapsed = now - start;
+            if (elapsed < windowMillis) {
+                return this;
+            }
+            long alignedStart = now - Math.floorMod(now, windowMillis);
+            return new Counts(alignedStart, elapsed < 2 * windowMillis ? current : 0, 0);
+        }
+
+        Counts incremented() {
+            return new Counts(start, previous, current + 1);
+        }
+
+        /**
+         * Time until the weighted count drops below {@code maxFailures}, or {@code 0} if it already is.
+         */
+        long retryAfterMillis(int maxFailures, long now, long windowMillis) {
+            long elapsed = now - start;
+            if (previous * (double) (windowMillis - elapsed) / windowMillis + current < maxFailures) {
+                return 0;
+            }
+            if (current >= maxFailures) {
+                // After this window, the current failures become the previous ones and are weighted down as the window slides.
+                return windowMillis - elapsed + (long) Math.ceil(windowMillis * (1 - (double) maxFailures / current)) + 1;
+            }
+            return (long) Math.ceil(windowMillis * (1 - (double) (maxFailures - current) / previous)) - elapsed + 1;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package at.alpscraft.security;
+
+/**
+ * This exception is thrown when a password cannot be hashed or checked in time because the hashing executor is saturated.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingUnavailableException(String message, Throwable t) {
+        super(message, t);
+    }
+}
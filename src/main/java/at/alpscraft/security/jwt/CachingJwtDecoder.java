@@ -0,0 +1,80 @@
+package at.alpscraft.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import org.springframework.cache.Cache;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} remembering the tokens it already decoded, so that a client sending the same token on every request
+ * pays the signature verification and the claims parsing only once per node.
+ * <p>
+ * Only successfully decoded tokens are cached in the {@value #DECODED_TOKENS_CACHE} cache, whose entries expire at the
+ * latest with the token. The cache holds no credential, even when it is stored off-heap or on disk: entries are keyed
+ * by the SHA-256 digest of the token, and the cached {@link Jwt} carries that digest as token value, the token itself
+ * being put back on every hit. A cached token is checked again by the given validator on every hit, which is where
+ * expiry and revocation checks belong; a token failing it is evicted and handed to the delegate, so that the failure is
+ * reported exactly as for an uncached token.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    public static final String DECODED_TOKENS_CACHE = "decodedJwts";
+
+    private final JwtDecoder delegate;
+
+    private final Cache cache;
+
+    private final OAuth2TokenValidator<Jwt> cachedTokenValidator;
+
+    public CachingJwtDecoder(JwtDecoder delegate, Cache cache, OAuth2TokenValidator<Jwt> cachedTokenValidator) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.cachedTokenValidator = cachedTokenValidator;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = key(token);
+        Jwt cached = cache.get(key, Jwt.class);
+        if (cached != null) {
+            Jwt jwt = withTokenValue(cached, token);
+            if (!cachedTokenValidator.validate(jwt).hasErrors()) {
+                return jwt;
+            }
+            cache.evict(key);
+        }
+        Jwt jwt = delegate.decode(token);
+        cache.put(key, withTokenValue(jwt, key));
+        return jwt;
+    }
+
+    /**
+     * Forgets a token, e.g. on logout, so that its next use is decoded and validated again.
+     *
+     * @param token the encoded token.
+     */
+    public void evict(String token) {
+        cache.evict(key(token));
+    }
+
+    /**
+     * @return the cache key of a token, the Base64 encoded SHA-256 digest of the token.
+     */
+    static String key(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Jwt withTokenValue(Jwt jwt, String tokenValue) {
+        return new Jwt(tokenValue, jwt.getIssuedAt(), jwt.getExpiresAt(), jwt.getHeaders(), jwt.getClaims());
+    }
+}
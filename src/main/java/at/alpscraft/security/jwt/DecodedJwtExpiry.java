@@ -0,0 +1,42 @@
+package at.alpscraft.security.jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Expiry of the {@value CachingJwtDecoder#DECODED_TOKENS_CACHE} cache: the time to live of the cache, shortened so that
+ * a decoded token never outlives the token itself.
+ */
+public class DecodedJwtExpiry implements ExpiryPolicy<Object, Object> {
+
+    private final Duration timeToLive;
+
+    public DecodedJwtExpiry(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public Duration getExpiryForCreation(Object key, Object value) {
+        if (value instanceof Jwt jwt && jwt.getExpiresAt() != null) {
+            Duration untilTokenExpiry = Duration.between(Instant.now(), jwt.getExpiresAt());
+            if (untilTokenExpiry.isNegative()) {
+                return Duration.ZERO;
+            }
+            return untilTokenExpiry.compareTo(timeToLive) < 0 ? untilTokenExpiry : timeToLive;
+        }
+        return timeToLive;
+    }
+
+    @Override
+    public Duration getExpiryForAccess(Object key, Supplier<?> value) {
+        return null;
+    }
+
+    @Override
+    public Duration getExpiryForUpdate(Object key, Supplier<?> oldValue, Object newValue) {
+        return getExpiryForCreation(key, newValue);
+    }
+}
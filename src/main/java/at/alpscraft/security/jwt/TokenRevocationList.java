@@ -0,0 +1,186 @@
+package at.alpscraft.security.jwt;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * In-memory copy of the revoked JWT ids, validating that a token was not revoked.
+ * <p>
+ * The ids are kept in an exact set, fronted by a Bloom filter: as nearly every token checked is not revoked, the check
+ * usually stops at the filter, which hashes the id in place and reads a few bits, without a lock or an allocation. Only
+ * the ids the filter reports as possibly revoked, the revoked ones and a false positive rate of them, are looked up in
+ * the set.
+ * <p>
+ * Ids are only ever added; {@link #replaceAll(Iterator)} swaps in a new copy, e.g. without the expired ids. Tokens
+ * without an id are never considered revoked.
+ */
+public class TokenRevocationList implements OAuth2TokenValidator<Jwt> {
+
+    public static final String REVOKED_DESCRIPTION = "Jwt revoked";
+
+    private static final OAuth2TokenValidatorResult REVOKED = OAuth2TokenValidatorResult.failure(
+        new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, REVOKED_DESCRIPTION, null)
+    );
+
+    private final long expectedRevokedTokens;
+
+    private final double falsePositiveRate;
+
+    private final Object replacementLock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    // ids added while a replacement copy is being built, to be carried over to it
+    private Set<String> addedDuringReplacement;
+
+    public TokenRevocationList(long expectedRevokedTokens, double falsePositiveRate) {
+        this.expectedRevokedTokens = expectedRevokedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = new Snapshot(ConcurrentHashMap.newKeySet(), new BloomFilter(expectedRevokedTokens, falsePositiveRate));
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        String jti = jwt.getId();
+        return jti != null && isRevoked(jti) ? REVOKED : OAuth2TokenValidatorResult.success();
+    }
+
+    public boolean isRevoked(String jti) {
+        Snapshot current = snapshot;
+        return current.filter().mightContain(jti) && current.jtis().contains(jti);
+    }
+
+    public synchronized void add(String jti) {
+        snapshot.add(jti);
+        if (addedDuringReplacement != null) {
+            addedDuringReplacement.add(jti);
+        }
+    }
+
+    /**
+     * Replaces the revoked ids, keeping the ones added meanwhile. The filter is sized for the larger of the expected number
+     * of revoked tokens and twice the given ids.
+     *
+     * @param jtis the revoked ids.
+     * @return the number of revoked ids.
+     */
+    public int replaceAll(Iterator<String> jtis) {
+        synchronized (replacementLock) {
+            synchronized (this) {
+                addedDuringReplacement = new HashSet<>();
+            }
+            Set<String> replacementJtis = ConcurrentHashMap.newKeySet();
+            try {
+                jtis.forEachRemaining(replacementJtis::add);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    addedDuringReplacement = null;
+                }
+                throw e;
+            }
+            Snapshot replacement = new Snapshot(
+                replacementJtis,
+                new BloomFilter(Math.max(expectedRevokedTokens, 2L * replacementJtis.size()), falsePositiveRate)
+            );
+            replacementJtis.forEach(replacement.filter()::put);
+            synchronized (this) {
+                addedDuringReplacement.forEach(replacement::add);
+                addedDuringReplacement = null;
+                snapshot = replacement;
+                return replacementJtis.size();
+            }
+        }
+    }
+
+    public int size() {
+        return snapshot.jtis().size();
+    }
+
+    private record Snapshot(Set<String> jtis, BloomFilter filter) {
+        void add(String jti) {
+            // the filter first, so that an id found in the set is always found in the filter
+            filter.put(jti);
+            jtis.add(jti);
+        }
+    }
+
+    /**
+     * Bloom filter of strings, its bits set with compare-and-set so that adding an id does not block the readers.
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+
+        private final long bitCount;
+
+        private final int hashCount;
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long insertions = Math.max(expectedInsertions, 1);
+            long optimalBitCount = (long) Math.ceil((-insertions * Math.log(falsePositiveRate)) / (Math.log(2) * Math.log(2)));
+            int words = Math.toIntExact(Math.max(1, (optimalBitCount + 63) / 64));
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = 64L * words;
+            this.hashCount = Math.max(1, (int) Math.round(((double) bitCount / insertions) * Math.log(2)));
+        }
+
+        void put(String value) {
+            long hash1 = hash(value, 0xcbf29ce484222325L);
+            long hash2 = hash(value, 0x84222325cbf29ce4L) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, bitCount);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current = bits.get(word);
+                while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                    current = bits.get(word);
+                }
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash1 = hash(value, 0xcbf29ce484222325L);
+            long hash2 = hash(value, 0x84222325cbf29ce4L) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int getHashCount() {
+            return hashCount;
+        }
+
+        long getBitCount() {
+            return bitCount;
+        }
+
+        /**
+         * FNV-1a over the characters, finished with the MurmurHash3 mix so that every bit depends on every character.
+         */
+        private static long hash(String value, long seed) {
+            long hash = seed;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
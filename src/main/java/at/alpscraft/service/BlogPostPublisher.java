@@ -0,0 +1,178 @@
+package at.alpscraft.service;
+
+import at.alpscraft.config.ApplicationProperties;
+import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.enumeration.PostStatus;
+import at.alpscraft.repository.BlogPostRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service publishing the scheduled {@link BlogPost}s once their {@code publishAt} is reached.
+ * <p>
+ * Rather than polling, a single wake-up is scheduled at the publication date of the next scheduled post, looked up through
+ * the index on {@code (status, publish_at)}, and moved whenever a post is scheduled on this or, through the
+ * {@link CacheInvalidationBus}, on another instance. The wake-up is never further away than
+ * {@code application.blog-post-publishing.max-sleep-ms}, in case a notification was lost.
+ * <p>
+ * The due posts are locked with {@code for update skip locked}, so that each one is published by a single instance, and
+ * their rendered content and the most read ranking are refreshed as they are published.
+ */
+@Service
+public class BlogPostPublisher {
+
+    static final String SCHEDULE_REGION = "blogPostSchedule";
+
+    private static final Logger LOG = LoggerFactory.getLogger(BlogPostPublisher.class);
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final ApplicationProperties.BlogPostPublishing properties;
+
+    private final BlogPostRepository blogPostRepository;
+
+    private final RenderedContentCache renderedContentCache;
+
+    private final BlogPostViewCounter blogPostViewCounter;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final ObjectProvider<TaskScheduler> taskScheduler;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private ScheduledFuture<?> wakeUp;
+
+    private Instant wakeUpAt;
+
+    public BlogPostPublisher(
+        ApplicationProperties applicationProperties,
+        BlogPostRepository blogPostRepository,
+        RenderedContentCache renderedContentCache,
+        BlogPostViewCounter blogPostViewCounter,
+        CacheInvalidationBus cacheInvalidationBus,
+        ObjectProvider<TaskScheduler> taskScheduler,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.properties = applicationProperties.getBlogPostPublishing();
+        this.blogPostRepository = blogPostRepository;
+        this.renderedContentCache = renderedContentCache;
+        this.blogPostViewCounter = blogPostViewCounter;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        cacheInvalidationBus.subscribe(SCHEDULE_REGION, key -> reschedule());
+    }
+
+    /**
+     * Moves the wake-up of this and the other instances to the next publication date, once the current transaction, if
+     * any, is committed. To be called whenever a post is scheduled.
+     */
+    public void scheduleChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        reschedule();
+                    }
+                }
+            );
+        } else {
+            reschedule();
+        }
+        cacheInvalidationBus.publish(SCHEDULE_REGION, CacheInvalidationBus.ALL_KEYS);
+    }
+
+    /**
+     * Schedules the wake-up at the next publication date, unless an earlier one is already pending. Does nothing when no
+     * task scheduler is available, as in tests.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reschedule() {
+        reschedule(Instant.now());
+    }
+
+    private synchronized void reschedule(Instant earliest) {
+        TaskScheduler scheduler = taskScheduler.getIfAvailable();
+        if (scheduler == null) {
+            return;
+        }
+        Instant latest = Instant.now().plus(Duration.ofMillis(properties.getMaxSleepMs()));
+        Instant next = latest;
+        try {
+            next = blogPostRepository
+                .findFirstPublishAtByStatus(PostStatus.SCHEDULED)
+                .map(publishAt -> publishAt.isBefore(earliest) ? earliest : publishAt)
+                .filter(publishAt -> publishAt.isBefore(latest))
+                .orElse(latest);
+        } catch (DataAccessException e) {
+            LOG.warn("Could not look up the next publication date, retrying at {}: {}", latest, e.getMessage());
+        }
+        if (wakeUp != null && !wakeUp.isDone()) {
+            if (!wakeUpAt.isAfter(next)) {
+                return;
+            }
+            wakeUp.cancel(false);
+        }
+        LOG.debug("Next publication check at {}", next);
+        wakeUpAt = next;
+        wakeUp = scheduler.schedule(this::wakeUp, next);
+    }
+
+    /**
+     * Publishes the scheduled posts whose publication date is reached.
+     *
+     * @return the number of published posts.
+     */
+    public int publishDuePosts() {
+        int published = 0;
+        int batchSize;
+        do {
+            batchSize = Objects.requireNonNull(transactionTemplate.execute(status -> publishDueBatch()));
+            published += batchSize;
+        } while (batchSize == properties.getBatchSize());
+        if (published > 0) {
+            LOG.info("Published {} scheduled blog posts", published);
+            blogPostViewCounter.refreshMostRead();
+        }
+        return published;
+    }
+
+    private int publishDueBatch() {
+        List<BlogPost> duePosts = blogPostRepository.findDueForUpdate(Instant.now(), properties.getBatchSize());
+        for (BlogPost blogPost : duePosts) {
+            blogPost.setStatus(PostStatus.PUBLISHED);
+            renderedContentCache.evict(RenderedContentCache.BLOG_POSTS_CACHE, blogPost.getId());
+        }
+        return duePosts.size();
+    }
+
+    private void wakeUp() {
+        synchronized (this) {
+            wakeUp = null;
+        }
+        try {
+            publishDuePosts();
+            reschedule(Instant.now());
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to publish the scheduled blog posts, retrying in {}: {}", RETRY_DELAY, e.getMessage());
+            reschedule(Instant.now().plus(RETRY_DELAY));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package at.alpscraft.service;
+
+import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.enumeration.PostStatus;
+import at.alpscraft.domain.enumeration.RevisionEntityType;
+import at.alpscraft.repository.BlogPostRepository;
+import at.alpscraft.service.dto.BlogPostDTO;
+import at.alpscraft.service.mapper.BlogPostMapper;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for saving {@link at.alpscraft.domain.BlogPost}s with their revisions, and for reading them together with
+ * their category and author.
+ * <p>
+ * Every read method loads the posts and their to-one relationships in a single round trip, whatever the number of posts.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BlogPostService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BlogPostService.class);
+
+    private final BlogPostRepository blogPostRepository;
+
+    private final BlogPostMapper blogPostMapper;
+
+    private final ContentRevisionService contentRevisionService;
+
+    public BlogPostService(
+        BlogPostRepository blogPostRepository,
+        BlogPostMapper blogPostMapper,
+        ContentRevisionService contentRevisionService
+    ) {
+        this.blogPostRepository = blogPostRepository;
+        this.blogPostMapper = blogPostMapper;
+        this.contentRevisionService = contentRevisionService;
+    }
+
+    /**
+     * Save a blogPost and record its revision in the same transaction. The row of the blogPost stays locked until the
+     * transaction ends, so concurrent edits of a blogPost are recorded one after the other.
+     *
+     * @param blogPost the blogPost to save.
+     * @return the persisted blogPost.
+     */
+    @Transactional
+    public BlogPost save(BlogPost blogPost) {
+        LOG.debug("Request to save BlogPost : {}", blogPost);
+        BlogPost result = blogPostRepository.saveAndFlush(blogPost);
+        blogPostRepository.lockById(result.getId());
+        contentRevisionService.record(RevisionEntityType.BLOG_POST, result.getId(), result.getTitle(), result.getContent());
+        return result;
+    }
+
+    public Page<BlogPostDTO> findAllWithRelationships(Collection<PostStatus> statuses, Pageable pageable) {
+        LOG.debug("Request to get a page of BlogPosts with relationships in {}", statuses);
+        return blogPostRepository.findAllWithToOneRelationshipsByStatusIn(statuses, pageable).map(blogPostMapper::blogPostToBlogPostDTO);
+    }
+
+    public Optional<BlogPostDTO> findOneWithRelationships(Long id) {
+        LOG.debug("Request to get BlogPost with relationships : {}", id);
+        return blogPostRepository.findOneWithToOneRelationshipsById(id).map(blogPostMapper::blogPostToBlogPostDTO);
+    }
+
+    public List<BlogPostDTO> findAllOfCurrentUser() {
+        LOG.debug("Request to get the BlogPosts of the current user");
+        return blogPostMapper.blogPostsToBlogPostDTOs(blogPostRepository.findByAuthorIsCurrentUser());
+    }
+}
@@ -0,0 +1,126 @@
+package at.alpscraft.service;
+
+import at.alpscraft.config.ApplicationProperties;
+import at.alpscraft.repository.BlogPostRepository;
+import at.alpscraft.repository.PopularBlogPost;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service counting the views of the {@link at.alpscraft.domain.BlogPost}s and ranking the most read ones.
+ * <p>
+ * Views are counted in memory, one {@link LongAdder} per post, so that reading a post never writes to the database. Every
+ * {@code application.blog-post-stats.flush-interval-ms} the counts gathered since the last flush are added to the
+ * {@code blog_post_stats} table in batched upserts, and the most read posts of all instances are read back into memory.
+ * <p>
+ * The counts are approximate: views of an instance that stops without flushing are lost, as is a view counted while its idle
+ * counter is being dropped.
+ */
+@Service
+public class BlogPostViewCounter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BlogPostViewCounter.class);
+
+    // posts deleted since their views were counted are skipped
+    private static final String UPSERT_SQL =
+        "insert into blog_post_stats (blog_post_id, view_count) " +
+        "select ?, ? where exists (select 1 from blog_post where id = ?) " +
+        "on conflict (blog_post_id) do update set view_count = blog_post_stats.view_count + excluded.view_count";
+
+    private final ApplicationProperties.BlogPostStats properties;
+
+    private final BlogPostRepository blogPostRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    private volatile List<PopularBlogPost> mostRead = List.of();
+
+    public BlogPostViewCounter(
+        ApplicationProperties applicationProperties,
+        BlogPostRepository blogPostRepository,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.properties = applicationProperties.getBlogPostStats();
+        this.blogPostRepository = blogPostRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void recordView(Long blogPostId) {
+        LongAdder views = pendingViews.get(blogPostId);
+        if (views == null) {
+            views = pendingViews.computeIfAbsent(blogPostId, id -> new LongAdder());
+        }
+        views.increment();
+    }
+
+    /**
+     * @param size the maximum number of posts, bounded by {@code application.blog-post-stats.popular-size}.
+     * @return the most read blog posts as of the last flush, most read first.
+     */
+    public List<PopularBlogPost> findMostRead(int size) {
+        List<PopularBlogPost> posts = mostRead;
+        return posts.subList(0, Math.min(Math.max(size, 0), posts.size()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshMostRead() {
+        mostRead = List.copyOf(blogPostRepository.findMostRead(properties.getPopularSize()));
+    }
+
+    /**
+     * Adds the views counted since the last flush to {@code blog_post_stats}, then refreshes the ranking. If the upserts
+     * fail, the views are counted again for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${application.blog-post-stats.flush-interval-ms:10000}")
+    @PreDestroy
+    public void flush() {
+        List<long[]> views = new ArrayList<>();
+        pendingViews.forEach((blogPostId, pending) -> {
+            long count = pending.sumThenReset();
+            if (count > 0) {
+                views.add(new long[] { blogPostId, count });
+            } else {
+                pendingViews.remove(blogPostId, pending);
+            }
+        });
+        if (!views.isEmpty()) {
+            // upserting in id order keeps instances flushing at the same time from deadlocking
+            views.sort((left, right) -> Long.compare(left[0], right[0]));
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, views, properties.getFlushBatchSize(), (ps, view) -> {
+                        ps.setLong(1, view[0]);
+                        ps.setLong(2, view[1]);
+                        ps.setLong(3, view[0]);
+                    })
+                );
+                LOG.debug("Flushed the views of {} blog posts", views.size());
+            } catch (DataAccessException e) {
+                LOG.warn("Failed to flush the views of {} blog posts, retrying with the next flush: {}", views.size(), e.getMessage());
+                views.forEach(view -> pendingViews.computeIfAbsent(view[0], id -> new LongAdder()).add(view[1]));
+                return;
+            }
+        }
+        refreshMostRead();
+    }
+}
@@ -0,0 +1,427 @@
+package at.alpscraft.service;
+
+import at.alpscraft.config.ApplicationProperties;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service broadcasting cache evictions to the other instances sharing the database, over PostgreSQL
+ * {@code LISTEN/NOTIFY}.
+ * <p>
+ * Updates and deletions of cached entities and collections are picked up from Hibernate and broadcast once committed;
+ * evictions of Spring caches and of custom regions are broadcast through {@link #publish(String, Object)}. Each
+ * instance applies the evictions it receives from the others to its local caches. As notifications sent while an
+ * instance is disconnected are lost, all local caches are cleared when the listener reconnects.
+ * <p>
+ * A notification payload holds one eviction per line, formatted as {@code nodeId|kind|region|key}.
+ */
+@Service
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    /**
+     * Key evicting a whole region.
+     */
+    public static final String ALL_KEYS = "*";
+
+    static final char ENTITY = 'E';
+
+    static final char COLLECTION = 'C';
+
+    static final char CACHE = 'K';
+
+    private static final String SEPARATOR = "|";
+
+    // PostgreSQL rejects payloads longer than 8000 bytes
+    private static final int MAX_PAYLOAD_LENGTH = 7000;
+
+    private static final int MAX_SEND_ATTEMPTS = 3;
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ApplicationProperties.Cache.Invalidation properties;
+
+    private final DataSourceProperties dataSourceProperties;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final CacheManager cacheManager;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Map<String, Consumer<String>> subscribers = new ConcurrentHashMap<>();
+
+    private final BlockingQueue<String> outbox = new LinkedBlockingQueue<>();
+
+    private volatile boolean running;
+
+    private Thread publisherThread;
+
+    private Thread listenerThread;
+
+    public CacheInvalidationBus(
+        ApplicationProperties applicationProperties,
+        DataSourceProperties dataSourceProperties,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        CacheManager cacheManager,
+        EntityManagerFactory entityManagerFactory
+    ) {
+        this.properties = applicationProperties.getCache().getInvalidation();
+        if (!properties.getChannel().matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + properties.getChannel());
+        }
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Register the local handler of a custom region, called with the evicted key or {@link #ALL_KEYS}.
+     *
+     * @param region the region name.
+     * @param handler the local eviction handler.
+     */
+    public void subscribe(String region, Consumer<String> handler) {
+        subscribers.put(region, handler);
+    }
+
+    /**
+     * Broadcast the eviction of a key from a Spring cache or from a custom region, once the current transaction, if
+     * any, is committed. The local eviction is left to the caller.
+     *
+     * @param region the cache or region name.
+     * @param key the evicted key, a {@link Long}, a {@link String} or {@link #ALL_KEYS}.
+     */
+    public void publish(String region, Object key) {
+        if (properties.isEnabled()) {
+            afterCommit(() -> enqueue(CACHE, region, key));
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        registerHibernateListeners();
+        running = true;
+        publisherThread = new Thread(this::runPublisher, "cache-invalidation-publisher");
+        publisherThread.setDaemon(true);
+        publisherThread.start();
+        listenerThread = new Thread(this::runListener, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        LOG.info("Cache invalidation bus started on channel {} as node {}", properties.getChannel(), nodeId);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread thread : new Thread[] { publisherThread, listenerThread }) {
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void registerHibernateListeners() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        Objects.requireNonNull(registry).appendListeners(
+            EventType.POST_COMMIT_UPDATE,
+            new PostUpdateEventListener() {
+                @Override
+                public void onPostUpdate(PostUpdateEvent event) {
+                    enqueue(ENTITY, event.getPersister().getEntityName(), event.getId());
+                }
+
+                @Override
+                public boolean requiresPostCommitHandling(EntityPersister persister) {
+                    return persister.canWriteToCache();
+                }
+            }
+        );
+        registry.appendListeners(
+            EventType.POST_COMMIT_DELETE,
+            new PostDeleteEventListener() {
+                @Override
+                public void onPostDelete(PostDeleteEvent event) {
+                    enqueue(ENTITY, event.getPersister().getEntityName(), event.getId());
+                }
+
+                @Override
+                public boolean requiresPostCommitHandling(EntityPersister persister) {
+                    return persister.canWriteToCache();
+                }
+            }
+        );
+        // collection events are only raised at flush time
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, (PostCollectionUpdateEventListener) this::onCollectionChange);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, (PostCollectionRemoveEventListener) this::onCollectionChange);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, (PostCollectionRecreateEventListener) this::onCollectionChange);
+    }
+
+    private void onCollectionChange(AbstractCollectionEvent event) {
+        String role = event.getCollection().getRole();
+        Object ownerId = event.getAffectedOwnerIdOrNull();
+        SessionFactoryImplementor sessionFactory = event.getSession().getFactory();
+        if (role != null && ownerId != null && sessionFactory.getMappingMetamodel().getCollectionDescriptor(role).hasCache()) {
+            afterCommit(() -> enqueue(COLLECTION, role, ownerId));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+            );
+        } else {
+            action.run();
+        }
+    }
+
+    private void enqueue(char kind, String region, Object key) {
+        if (running) {
+            outbox.add(nodeId + SEPARATOR + kind + SEPARATOR + region + SEPARATOR + encodeKey(key));
+        }
+    }
+
+    static String encodeKey(Object key) {
+        if (key instanceof Long id) {
+            return "L" + id;
+        }
+        if (key instanceof String string) {
+            return ALL_KEYS.equals(string) ? ALL_KEYS : "S" + string;
+        }
+        // keys of other types are not supported, evict the whole region
+        return ALL_KEYS;
+    }
+
+    static Object decodeKey(String key) {
+        if (key.startsWith("L")) {
+            return Long.valueOf(key.substring(1));
+        }
+        if (key.startsWith("S")) {
+            return key.substring(1);
+        }
+        return ALL_KEYS;
+    }
+
+    private void runPublisher() {
+        while (running) {
+            try {
+                String first = outbox.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<String> evictions = new ArrayList<>();
+                evictions.add(first);
+                outbox.drainTo(evictions);
+                for (String payload : toPayloads(evictions)) {
+                    send(payload);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    static List<String> toPayloads(List<String> evictions) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder();
+        for (String eviction : evictions) {
+            if (!payload.isEmpty() && payload.length() + 1 + eviction.length() > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+            }
+            if (!payload.isEmpty()) {
+                payload.append('\n');
+            }
+            payload.append(eviction);
+        }
+        if (!payload.isEmpty()) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    private void send(String payload) throws InterruptedException {
+        for (int attempt = 1; attempt <= MAX_SEND_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.execute(
+                        "select pg_notify(?, ?)",
+                        (PreparedStatementCallback<Boolean>) ps -> {
+                            ps.setString(1, properties.getChannel());
+                            ps.setString(2, payload);
+                            return ps.execute();
+                        }
+                    )
+                );
+                return;
+            } catch (RuntimeException e) {
+                LOG.warn("Could not broadcast cache evictions, attempt {}: {}", attempt, e.getMessage());
+                Thread.sleep(properties.getReconnectDelayMs());
+            }
+        }
+        LOG.error("Dropped cache evictions after {} attempts: {}", MAX_SEND_ATTEMPTS, payload);
+    }
+
+    private void runListener() {
+        boolean reconnecting = false;
+        while (running) {
+            try (
+                Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword()
+                )
+            ) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+                if (reconnecting) {
+                    LOG.info("Cache invalidation listener reconnected, clearing local caches");
+                    evictAll();
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(1000);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                LOG.warn("Cache invalidation listener disconnected: {}", e.getMessage());
+                reconnecting = true;
+                try {
+                    Thread.sleep(properties.getReconnectDelayMs());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    void handle(String payload) {
+        for (String eviction : payload.split("\n")) {
+            String[] parts = eviction.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4 || parts[1].length() != 1) {
+                LOG.warn("Ignoring malformed cache eviction: {}", eviction);
+                continue;
+            }
+            if (nodeId.equals(parts[0])) {
+                continue;
+            }
+            try {
+                evict(parts[1].charAt(0), parts[2], decodeKey(parts[3]));
+            } catch (RuntimeException e) {
+                LOG.warn("Could not apply cache eviction {}: {}", eviction, e.getMessage());
+            }
+        }
+    }
+
+    private void evict(char kind, String region, Object key) {
+        LOG.debug("Evicting {} from {} on behalf of another node", key, region);
+        org.hibernate.Cache secondLevelCache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+        switch (kind) {
+            case ENTITY -> {
+                if (ALL_KEYS.equals(key)) {
+                    secondLevelCache.evictEntityData(region);
+                } else {
+                    secondLevelCache.evictEntityData(region, key);
+                }
+            }
+            case COLLECTION -> {
+                if (ALL_KEYS.equals(key)) {
+                    secondLevelCache.evictCollectionData(region);
+                } else {
+                    secondLevelCache.evictCollectionData(region, key);
+                }
+            }
+            case CACHE -> {
+                Consumer<String> subscriber = subscribers.get(region);
+                Cache cache = cacheManager.getCache(region);
+                if (subscriber != null) {
+                    subscriber.accept(String.valueOf(key));
+                } else if (cache != null && ALL_KEYS.equals(key)) {
+                    cache.clear();
+                } else if (cache != null) {
+                    cache.evict(key);
+                }
+            }
+            default -> LOG.warn("Ignoring cache eviction of unknown kind {}", kind);
+        }
+    }
+
+    private void evictAll() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().evictAllRegions();
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+        subscribers.values().forEach(subscriber -> subscriber.accept(ALL_KEYS));
+    }
+}
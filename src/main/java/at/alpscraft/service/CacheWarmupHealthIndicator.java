@@ -0,0 +1,36 @@
+package at.alpscraft.service;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link org.springframework.boot.actuate.health.HealthIndicator} reporting the progress of the cache warm-up.
+ * <p>
+ * It is {@code OUT_OF_SERVICE} until the warm-up is done or has failed, keeping the instance out of the readiness probe.
+ */
+@Component
+public class CacheWarmupHealthIndicator extends AbstractHealthIndicator {
+
+    private final CacheWarmupService cacheWarmupService;
+
+    public CacheWarmupHealthIndicator(CacheWarmupService cacheWarmupService) {
+        super("Cache warm-up health check failed");
+        this.cacheWarmupService = cacheWarmupService;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        CacheWarmupService.State state = cacheWarmupService.getState();
+        if (state == CacheWarmupService.State.PENDING || state == CacheWarmupService.State.RUNNING) {
+            builder.outOfService();
+        } else {
+            builder.up();
+        }
+        builder
+            .withDetail("state", state)
+            .withDetail("completedBatches", cacheWarmupService.getCompletedBatches())
+            .withDetail("totalBatches", cacheWarmupService.getTotalBatches())
+            .withDetail("failedBatches", cacheWarmupService.getFailedBatches());
+    }
+}
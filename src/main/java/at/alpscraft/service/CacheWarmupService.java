@@ -0,0 +1,218 @@
+package at.alpscraft.service;
+
+import at.alpscraft.config.ApplicationProperties;
+import at.alpscraft.repository.BlogPostRepository;
+import at.alpscraft.repository.PostCategoryRepository;
+import at.alpscraft.repository.StaticPageRepository;
+import at.alpscraft.repository.UiSectionElementRepository;
+import at.alpscraft.repository.UiSectionRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service preloading the Hibernate second-level caches and the layout once the application is ready.
+ * <p>
+ * Entities are read in batches of {@code application.cache.warmup.batch-size}, each in its own read-only transaction,
+ * by {@code application.cache.warmup.parallelism} concurrent workers. Progress is reported by
+ * {@link CacheWarmupHealthIndicator}, which is part of the readiness group. A warm-up that cannot be planned or started
+ * ends as {@link State#FAILED}, so that it does not keep the instance out of the readiness probe.
+ */
+@Service
+public class CacheWarmupService {
+
+    public enum State {
+        DISABLED,
+        PENDING,
+        RUNNING,
+        DONE,
+        FAILED,
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheWarmupService.class);
+
+    private final ApplicationProperties.Cache.Warmup properties;
+
+    private final BlogPostRepository blogPostRepository;
+
+    private final StaticPageRepository staticPageRepository;
+
+    private final PostCategoryRepository postCategoryRepository;
+
+    private final UiSectionRepository uiSectionRepository;
+
+    private final UiSectionElementRepository uiSectionElementRepository;
+
+    private final LayoutService layoutService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Executor executor;
+
+    private final AtomicInteger totalBatches = new AtomicInteger();
+
+    private final AtomicInteger completedBatches = new AtomicInteger();
+
+    private final AtomicInteger failedBatches = new AtomicInteger();
+
+    private volatile State state;
+
+    private volatile long startTime;
+
+    public CacheWarmupService(
+        ApplicationProperties applicationProperties,
+        BlogPostRepository blogPostRepository,
+        StaticPageRepository staticPageRepository,
+        PostCategoryRepository postCategoryRepository,
+        UiSectionRepository uiSectionRepository,
+        UiSectionElementRepository uiSectionElementRepository,
+        LayoutService layoutService,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("cacheWarmupExecutor") Executor executor
+    ) {
+        this.properties = applicationProperties.getCache().getWarmup();
+        this.blogPostRepository = blogPostRepository;
+        this.staticPageRepository = staticPageRepository;
+        this.postCategoryRepository = postCategoryRepository;
+        this.uiSectionRepository = uiSectionRepository;
+        this.uiSectionElementRepository = uiSectionElementRepository;
+        this.layoutService = layoutService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.executor = executor;
+        this.state = properties.isEnabled() ? State.PENDING : State.DISABLED;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (state == State.PENDING) {
+            try {
+                executor.execute(this::warmUp);
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getTotalBatches() {
+        return totalBatches.get();
+    }
+
+    public int getCompletedBatches() {
+        return completedBatches.get();
+    }
+
+    public int getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    void warmUp() {
+        state = State.RUNNING;
+        startTime = System.currentTimeMillis();
+        List<Runnable> batches;
+        try {
+            batches = planBatches();
+        } catch (RuntimeException e) {
+            fail(e);
+            return;
+        }
+        totalBatches.set(batches.size());
+        LOG.info("Warming up caches in {} batches of {} entities", batches.size(), properties.getBatchSize());
+
+        Queue<Runnable> pendingBatches = new ConcurrentLinkedQueue<>(batches);
+        int workers = Math.max(1, Math.min(properties.getParallelism(), batches.size()));
+        AtomicInteger runningWorkers = new AtomicInteger(workers);
+        for (int i = 0; i < workers; i++) {
+            try {
+                executor.execute(() -> {
+                    runBatches(pendingBatches);
+                    if (runningWorkers.decrementAndGet() == 0) {
+                        finish();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // the workers already started drain the queue, the last one to stop finishes the warm-up
+                if (runningWorkers.addAndGet(i - workers) == 0) {
+                    if (i == 0) {
+                        fail(e);
+                    } else {
+                        finish();
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    private List<Runnable> planBatches() {
+        int batchSize = properties.getBatchSize();
+        List<Runnable> batches = new ArrayList<>();
+        long blogPosts = Math.min(properties.getBlogPosts(), blogPostRepository.count());
+        addBatches(batches, blogPostRepository::findAllPublishedOrderByViewCount, blogPosts, Sort.unsorted(), batchSize);
+        addBatches(batches, staticPageRepository::findAll, staticPageRepository.count(), Sort.by("id"), batchSize);
+        addBatches(batches, postCategoryRepository::findAll, postCategoryRepository.count(), Sort.by("id"), batchSize);
+        addBatches(batches, uiSectionRepository::findAll, uiSectionRepository.count(), Sort.by("id"), batchSize);
+        addBatches(batches, uiSectionElementRepository::findAll, uiSectionElementRepository.count(), Sort.by("id"), batchSize);
+        return batches;
+    }
+
+    private void addBatches(List<Runnable> batches, Function<Pageable, ?> query, long count, Sort sort, int batchSize) {
+        for (int page = 0; (long) page * batchSize < count; page++) {
+            PageRequest pageRequest = PageRequest.of(page, batchSize, sort);
+            // entities read by a query are put into the second-level cache
+            batches.add(() -> transactionTemplate.executeWithoutResult(status -> query.apply(pageRequest)));
+        }
+    }
+
+    private void runBatches(Queue<Runnable> pendingBatches) {
+        Runnable batch;
+        while ((batch = pendingBatches.poll()) != null) {
+            try {
+                batch.run();
+            } catch (RuntimeException e) {
+                failedBatches.incrementAndGet();
+                LOG.warn("Cache warm-up batch failed: {}", e.getMessage());
+            }
+            completedBatches.incrementAndGet();
+        }
+    }
+
+    private void fail(RuntimeException e) {
+        state = State.FAILED;
+        LOG.error("Cache warm-up failed, serving with cold caches", e);
+    }
+
+    private void finish() {
+        try {
+            layoutService.getLayout();
+        } catch (RuntimeException e) {
+            LOG.warn("Layout warm-up failed: {}", e.getMessage());
+        }
+        state = State.DONE;
+        LOG.info(
+            "Warmed up caches in {} ms, {} of {} batches failed",
+            System.currentTimeMillis() - startTime,
+            failedBatches.get(),
+            totalBatches.get()
+        );
+    }
+}
@@ -0,0 +1,230 @@
+package at.alpscraft.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.apache.commons.collections4.sequence.CommandVisitor;
+import org.apache.commons.collections4.sequence.SequencesComparator;
+
+/**
+ * Line-based deltas between two versions of a text, computed with the Myers algorithm.
+ * <p>
+ * A delta is stored as a deflated list of operations: keep or skip a number of lines of the previous version, or insert
+ * new lines. A delta against the empty text holds the whole text, and serves as a snapshot.
+ */
+final class ContentDelta {
+
+    private static final byte KEEP = 'K';
+
+    private static final byte DELETE = 'D';
+
+    private static final byte INSERT = 'I';
+
+    private static final int CONTEXT_LINES = 3;
+
+    private ContentDelta() {}
+
+    /**
+     * Compute the compressed delta turning {@code previous} into {@code current}.
+     */
+    static byte[] encode(String previous, String current) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_COMPRESSION)))) {
+            List<Edit> edits = compact(edits(lines(previous), lines(current)));
+            out.writeInt(edits.size());
+            for (Edit edit : edits) {
+                out.writeByte(edit.type());
+                out.writeInt(edit.lines().size());
+                if (edit.type() == INSERT) {
+                    for (String line : edit.lines()) {
+                        byte[] utf8 = line.getBytes(StandardCharsets.UTF_8);
+                        out.writeInt(utf8.length);
+                        out.write(utf8);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Apply a delta computed by {@link #encode(String, String)} to the version it was computed against.
+     */
+    static String apply(String previous, byte[] delta) {
+        List<String> previousLines = lines(previous);
+        int position = 0;
+        StringBuilder current = new StringBuilder(previous.length());
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(delta)))) {
+            int edits = in.readInt();
+            for (int i = 0; i < edits; i++) {
+                byte type = in.readByte();
+                int count = in.readInt();
+                switch (type) {
+                    case KEEP -> {
+                        previousLines.subList(position, position + count).forEach(current::append);
+                        position += count;
+                    }
+                    case DELETE -> position += count;
+                    case INSERT -> {
+                        for (int line = 0; line < count; line++) {
+                            byte[] utf8 = new byte[in.readInt()];
+                            in.readFully(utf8);
+                            current.append(new String(utf8, StandardCharsets.UTF_8));
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Invalid delta operation " + type);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return current.toString();
+    }
+
+    /**
+     * Render the changes between two versions in the unified diff format, with three lines of context.
+     *
+     * @return the diff, empty if both versions are equal.
+     */
+    static String unifiedDiff(String previous, String current, String previousLabel, String currentLabel) {
+        List<Edit> edits = edits(lines(previous), lines(current));
+        StringBuilder diff = new StringBuilder();
+        int start = 0;
+        while (true) {
+            int firstChange = nextChange(edits, start);
+            if (firstChange == edits.size()) {
+                break;
+            }
+            if (diff.isEmpty()) {
+                diff.append("--- ").append(previousLabel).append('\n').append("+++ ").append(currentLabel).append('\n');
+            }
+            // extend the hunk while the next change is close enough for the contexts to overlap
+            int hunkStart = Math.max(start, firstChange - CONTEXT_LINES);
+            int lastChange = firstChange;
+            int next;
+            while ((next = nextChange(edits, lastChange + 1)) < edits.size() && next - lastChange <= 2 * CONTEXT_LINES + 1) {
+                lastChange = next;
+            }
+            int hunkEnd = Math.min(edits.size(), lastChange + CONTEXT_LINES + 1);
+            appendHunk(diff, edits, hunkStart, hunkEnd);
+            start = hunkEnd;
+        }
+        return diff.toString();
+    }
+
+    private static void appendHunk(StringBuilder diff, List<Edit> edits, int from, int to) {
+        int previousStart = 1;
+        int currentStart = 1;
+        for (Edit edit : edits.subList(0, from)) {
+            previousStart += edit.type() == INSERT ? 0 : 1;
+            currentStart += edit.type() == DELETE ? 0 : 1;
+        }
+        int previousCount = 0;
+        int currentCount = 0;
+        StringBuilder lines = new StringBuilder();
+        for (Edit edit : edits.subList(from, to)) {
+            String line = edit.lines().get(0);
+            char prefix = switch (edit.type()) {
+                case DELETE -> '-';
+                case INSERT -> '+';
+                default -> ' ';
+            };
+            previousCount += edit.type() == INSERT ? 0 : 1;
+            currentCount += edit.type() == DELETE ? 0 : 1;
+            lines.append(prefix).append(line);
+            if (!line.endsWith("\n")) {
+                lines.append("\n\\ No newline at end of file\n");
+            }
+        }
+        diff
+            .append("@@ -")
+            .append(previousCount == 0 ? previousStart - 1 : previousStart)
+            .append(',')
+            .append(previousCount)
+            .append(" +")
+            .append(currentCount == 0 ? currentStart - 1 : currentStart)
+            .append(',')
+            .append(currentCount)
+            .append(" @@\n")
+            .append(lines);
+    }
+
+    private static int nextChange(List<Edit> edits, int from) {
+        int index = from;
+        while (index < edits.size() && edits.get(index).type() == KEEP) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * @return one edit per line, the deleted lines of a change before the inserted ones as in a unified diff.
+     */
+    private static List<Edit> edits(List<String> previous, List<String> current) {
+        List<Edit> edits = new ArrayList<>(Math.max(previous.size(), current.size()));
+        List<Edit> inserts = new ArrayList<>();
+        new SequencesComparator<>(previous, current).getScript()
+            .visit(
+                new CommandVisitor<>() {
+                    @Override
+                    public void visitInsertCommand(String line) {
+                        inserts.add(new Edit(INSERT, List.of(line)));
+                    }
+
+                    @Override
+                    public void visitKeepCommand(String line) {
+                        edits.addAll(inserts);
+                        inserts.clear();
+                        edits.add(new Edit(KEEP, List.of(line)));
+                    }
+
+                    @Override
+                    public void visitDeleteCommand(String line) {
+                        edits.add(new Edit(DELETE, List.of(line)));
+                    }
+                }
+            );
+        edits.addAll(inserts);
+        return edits;
+    }
+
+    /**
+     * @return the edits with the consecutive edits of the same type merged.
+     */
+    private static List<Edit> compact(List<Edit> edits) {
+        List<Edit> compacted = new ArrayList<>();
+        for (Edit edit : edits) {
+            Edit last = compacted.isEmpty() ? null : compacted.get(compacted.size() - 1);
+            if (last != null && last.type() == edit.type()) {
+                last.lines().addAll(edit.lines());
+            } else {
+                compacted.add(new Edit(edit.type(), new ArrayList<>(edit.lines())));
+            }
+        }
+        return compacted;
+    }
+
+    /**
+     * Split a text into lines, keeping the line terminators so that joining the lines gives back the text.
+     */
+    static List<String> lines(String text) {
+        if (text.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(text.split("(?<=\n)"));
+    }
+
+    private record Edit(byte type, List<String> lines) {}
+}
@@ -0,0 +1,117 @@
+package at.alpscraft.service;
+
+import at.alpscraft.config.ApplicationProperties;
+import at.alpscraft.domain.ContentRevision;
+import at.alpscraft.domain.enumeration.RevisionEntityType;
+import at.alpscraft.repository.ContentRevisionRepository;
+import at.alpscraft.repository.ContentRevisionSummary;
+import at.alpscraft.security.SecurityUtils;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service keeping the revision history of the content of blog posts and static pages.
+ * <p>
+ * Each revision stores the compressed line changes to the previous one, and every
+ * {@code application.revisions.snapshot-interval} revisions the whole content, so that the history of a long page edited
+ * often stays small, and rebuilding any revision reads and applies a bounded number of rows.
+ */
+@Service
+@Transactional
+public class ContentRevisionService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContentRevisionService.class);
+
+    private final ApplicationProperties.Revisions properties;
+
+    private final ContentRevisionRepository contentRevisionRepository;
+
+    public ContentRevisionService(ApplicationProperties applicationProperties, ContentRevisionRepository contentRevisionRepository) {
+        this.properties = applicationProperties.getRevisions();
+        this.contentRevisionRepository = contentRevisionRepository;
+    }
+
+    /**
+     * Record a new revision of an entity, unless its title and content are those of the last revision.
+     *
+     * @param entityType the type of the entity.
+     * @param entityId the id of the entity.
+     * @param title the title of the entity.
+     * @param content the content of the entity.
+     */
+    public void record(RevisionEntityType entityType, Long entityId, String title, String content) {
+        Optional<ContentRevision> last = contentRevisionRepository.findFirstByEntityTypeAndEntityIdOrderByRevisionDesc(
+            entityType,
+            entityId
+        );
+        int revision = last.map(ContentRevision::getRevision).orElse(0) + 1;
+        boolean snapshot = (revision - 1) % properties.getSnapshotInterval() == 0;
+        String previousContent = "";
+        if (last.isPresent()) {
+            String lastContent = rebuild(entityType, entityId, last.orElseThrow().getRevision()).orElseThrow();
+            if (lastContent.equals(content) && Objects.equals(last.orElseThrow().getTitle(), title)) {
+                return;
+            }
+            if (!snapshot) {
+                previousContent = lastContent;
+            }
+        }
+        LOG.debug("Recording revision {} of {} {}", revision, entityType, entityId);
+        contentRevisionRepository.save(
+            new ContentRevision()
+                .entityType(entityType)
+                .entityId(entityId)
+                .revision(revision)
+                .title(title)
+                .snapshot(snapshot)
+                .delta(ContentDelta.encode(previousContent, content))
+                .createdBy(SecurityUtils.getCurrentUserLogin().orElse(null))
+                .createdDate(Instant.now())
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<ContentRevisionSummary> findAll(RevisionEntityType entityType, Long entityId) {
+        return contentRevisionRepository.findAllByEntityTypeAndEntityIdOrderByRevisionDesc(entityType, entityId);
+    }
+
+    /**
+     * Render the changes of the content between two revisions in the unified diff format. Revision 0 is the empty content
+     * before the first revision.
+     *
+     * @return the diff, or empty if one of the revisions does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> diff(RevisionEntityType entityType, Long entityId, int fromRevision, int toRevision) {
+        Optional<String> from = fromRevision == 0 ? Optional.of("") : rebuild(entityType, entityId, fromRevision);
+        Optional<String> to = rebuild(entityType, entityId, toRevision);
+        if (from.isEmpty() || to.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(
+            ContentDelta.unifiedDiff(from.orElseThrow(), to.orElseThrow(), "revision " + fromRevision, "revision " + toRevision)
+        );
+    }
+
+    public void deleteAll(RevisionEntityType entityType, Long entityId) {
+        contentRevisionRepository.deleteAllOf(entityType, entityId);
+    }
+
+    private Optional<String> rebuild(RevisionEntityType entityType, Long entityId, int revision) {
+        List<ContentRevision> chain = contentRevisionRepository.findChainTo(entityType, entityId, revision);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getRevision() != revision) {
+            return Optional.empty();
+        }
+        String content = "";
+        for (ContentRevision contentRevision : chain) {
+            content = ContentDelta.apply(content, contentRevision.getDelta());
+        }
+        return Optional.of(content);
+    }
+}
@@ -0,0 +1,297 @@
+package at.alpscraft.service;
+
+import at.alpscraft.config.ApplicationProperties;
+import at.alpscraft.config.Constants;
+import at.alpscraft.domain.enumeration.SectionType;
+import at.alpscraft.security.AuthoritiesConstants;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.function.LongFunction;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bulk-inserts a large, production-like corpus for benchmarks, load tests and query plan work, when the application is
+ * started with the {@code datagen} profile:
+ * <pre>
+ * ./mvnw -Dspring-boot.run.profiles=dev,datagen -Dspring-boot.run.arguments=--application.data-generator.blog-posts=1000000
+ * </pre>
+ * Rows are streamed with the PostgreSQL {@code COPY} protocol, {@code application.data-generator.batch-size} rows per
+ * transaction, with ids reserved from {@code sequence_generator} so that the application can keep creating entities.
+ * The generated users have the password {@code user}. Volumes and seed are read from {@code application.data-generator}.
+ */
+@Service
+@Profile(Constants.SPRING_PROFILE_DATAGEN)
+public class DataGenerator implements ApplicationRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataGenerator.class);
+
+    private static final String CREATED_BY = "datagen";
+
+    private static final String[] TABLES = {
+        "jhi_user",
+        "jhi_user_authority",
+        "post_category",
+        "blog_post",
+        "static_page",
+        "ui_section",
+        "ui_section_element",
+    };
+
+    private static final String[] WORDS = {
+        "Alm",
+        "Aufstieg",
+        "Abfahrt",
+        "Berg",
+        "Bergführer",
+        "Biwak",
+        "Dolomiten",
+        "Gipfel",
+        "Gletscher",
+        "Grat",
+        "Hütte",
+        "Joch",
+        "Kamm",
+        "Kar",
+        "Klettern",
+        "Lawine",
+        "Material",
+        "Morgen",
+        "Nordwand",
+        "Pickel",
+        "Route",
+        "Rinne",
+        "Rucksack",
+        "Scharte",
+        "Schnee",
+        "Seil",
+        "Steigeisen",
+        "Tal",
+        "Tirol",
+        "Tour",
+        "Wetter",
+        "Winter",
+        "Sommer",
+        "Wanderung",
+        "Ausrüstung",
+        "Kurs",
+        "und",
+        "die",
+        "der",
+        "das",
+        "mit",
+        "über",
+        "durch",
+        "zum",
+        "bei",
+        "nach",
+        "steil",
+        "lang",
+        "leicht",
+        "schwierig",
+        "sonnig",
+        "früh",
+        "herrlich",
+        "gesichert",
+    };
+
+    private final ApplicationProperties.DataGenerator properties;
+
+    private final DataSource dataSource;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ApplicationContext applicationContext;
+
+    public DataGenerator(
+        ApplicationProperties applicationProperties,
+        DataSource dataSource,
+        JdbcTemplate jdbcTemplate,
+        PasswordEncoder passwordEncoder,
+        ApplicationContext applicationContext
+    ) {
+        this.properties = applicationProperties.getDataGenerator();
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException, IOException {
+        generate();
+        if (properties.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    /**
+     * Inserts the configured volumes of users, categories, blog posts, static pages and layout sections, then analyzes the
+     * tables so that the query planner sees the new statistics.
+     *
+     * @throws SQLException if a {@code COPY} fails; the batches copied so far stay committed.
+     * @throws IOException if a row cannot be streamed to the database.
+     */
+    public void generate() throws SQLException, IOException {
+        long start = System.currentTimeMillis();
+        Random random = new Random(properties.getSeed());
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        int users = properties.getUsers();
+        String passwordHash = passwordEncoder.encode("user");
+        long firstUserId = copyEntities(
+            "jhi_user",
+            "id, login, password_hash, first_name, last_name, email, activated, lang_key, created_by, created_date",
+            users,
+            (id, i) ->
+                new Object[] {
+                    id,
+                    "author-" + id,
+                    passwordHash,
+                    word(random),
+                    word(random),
+                    "author-" + id + "@localhost",
+                    true,
+                    Constants.DEFAULT_LANGUAGE,
+                    CREATED_BY,
+                    now,
+                }
+        );
+        copy("jhi_user_authority", "user_id, authority_name", users, i -> new Object[] { firstUserId + i, AuthoritiesConstants.USER });
+
+        int categories = properties.getCategories();
+        long firstCategoryId = copyEntities("post_category", "id, name, description", categories, (id, i) ->
+            new Object[] { id, word(random) + " " + (i + 1), sentence(random, 5, 12) }
+        );
+
+        copyEntities("blog_post", "id, title, content, category_id, author_id, version", properties.getBlogPosts(), (id, i) ->
+            new Object[] {
+                id,
+                sentence(random, 3, 8),
+                content(random),
+                categories == 0 ? null : firstCategoryId + random.nextInt(categories),
+                users == 0 ? null : firstUserId + random.nextInt(users),
+                0,
+            }
+        );
+        copyEntities("static_page", "id, title, content, author_id, version", properties.getStaticPages(), (id, i) ->
+            new Object[] { id, sentence(random, 1, 4), content(random), users == 0 ? null : firstUserId + random.nextInt(users), 0 }
+        );
+
+        SectionType[] sectionTypes = SectionType.values();
+        int sections = sectionTypes.length * properties.getSectionsPerType();
+        long firstSectionId = copyEntities("ui_section", "id, title, css_class, content, version", sections, (id, i) ->
+            new Object[] { id, sectionTypes[(int) (i % sectionTypes.length)].name(), "section-" + (i + 1), sentence(random, 5, 20), 0 }
+        );
+        int elementsPerSection = properties.getElementsPerSection();
+        copyEntities("ui_section_element", "id, title, content, ui_section_id, version", sections * elementsPerSection, (id, i) -> {
+            long section = i / elementsPerSection;
+            SectionType sectionType = sectionTypes[(int) (section % sectionTypes.length)];
+            return new Object[] { id, sectionType.name(), sentence(random, 5, 20), firstSectionId + section, 0 };
+        });
+
+        for (String table : TABLES) {
+            jdbcTemplate.execute("analyze " + table);
+        }
+        LOG.info("Generated the data in {} ms", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Copies {@code count} rows with ids reserved from {@code sequence_generator} and returns the first id.
+     * <p>
+     * Hibernate allocates ids in blocks of 50 ending at the value returned by {@code nextval}, so moving the sequence past
+     * the reserved ids keeps the next blocks clear of them.
+     */
+    private long copyEntities(String table, String columns, long count, EntityRow row) throws SQLException, IOException {
+        Long last = jdbcTemplate.queryForObject("select nextval('sequence_generator')", Long.class);
+        jdbcTemplate.queryForObject("select setval('sequence_generator', ?)", Long.class, last + count);
+        long firstId = last + 1;
+        copy(table, columns, count, i -> row.apply(firstId + i, i));
+        return firstId;
+    }
+
+    private void copy(String table, String columns, long count, LongFunction<Object[]> row) throws SQLException, IOException {
+        if (count == 0) {
+            return;
+        }
+        String sql = "copy " + table + " (" + columns + ") from stdin (format csv)";
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            StringBuilder batch = new StringBuilder();
+            for (long i = 0; i < count; i++) {
+                appendCsvRow(batch, row.apply(i));
+                if ((i + 1) % properties.getBatchSize() == 0 || i + 1 == count) {
+                    copyManager.copyIn(sql, new StringReader(batch.toString()));
+                    connection.commit();
+                    batch.setLength(0);
+                    LOG.info("Copied {}/{} rows into {}", i + 1, count, table);
+                }
+            }
+        }
+    }
+
+    private static void appendCsvRow(StringBuilder csv, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csv.append(',');
+            }
+            Object value = values[i];
+            if (value instanceof String string) {
+                csv.append('"').append(string.replace("\"", "\"\"")).append('"');
+            } else if (value != null) {
+                csv.append(value);
+            }
+        }
+        csv.append('\n');
+    }
+
+    private String content(Random random) {
+        double median = Math.log(properties.getMedianContentLength());
+        long length = Math.max(200, Math.min(100_000, Math.round(Math.exp(median + 0.8 * random.nextGaussian()))));
+        StringBuilder content = new StringBuilder((int) length + 200);
+        while (content.length() < length) {
+            content.append(sentence(random, 6, 18));
+            content.append(random.nextInt(5) == 0 ? "\n\n" : " ");
+        }
+        return content.toString();
+    }
+
+    private static String sentence(Random random, int minWords, int maxWords) {
+        int words = minWords + random.nextInt(maxWords - minWords + 1);
+        String first = word(random);
+        StringBuilder sentence = new StringBuilder(words * 8);
+        sentence.append(Character.toUpperCase(first.charAt(0))).append(first, 1, first.length());
+        for (int i = 1; i < words; i++) {
+            sentence.append(' ').append(word(random));
+        }
+        return sentence.append('.').toString();
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    @FunctionalInterface
+    private interface EntityRow {
+        Object[] apply(long id, long index);
+    }
+}
@@ -0,0 +1,120 @@
+package at.alpscraft.service;
+
+import at.alpscraft.domain.enumeration.SectionType;
+import at.alpscraft.repository.UiSectionRepository;
+import at.alpscraft.repository.UiSectionWithElement;
+import at.alpscraft.service.dto.LayoutDTO;
+import at.alpscraft.service.dto.LayoutElementDTO;
+import at.alpscraft.service.dto.LayoutSectionDTO;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service assembling the page layout from {@link at.alpscraft.domain.UiSection}s and their elements.
+ * <p>
+ * The layout is read with a single query and kept as an in-memory snapshot, shared by all callers, until a section or
+ * an element changes and {@link #invalidate()} is called. Serving the snapshot needs neither a transaction nor a
+ * database connection.
+ */
+@Service
+public class LayoutService {
+
+    public static final String LAYOUT_REGION = "layout";
+
+    private static final Logger LOG = LoggerFactory.getLogger(LayoutService.class);
+
+    private final UiSectionRepository uiSectionRepository;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile LayoutDTO snapshot;
+
+    public LayoutService(UiSectionRepository uiSectionRepository, CacheInvalidationBus cacheInvalidationBus) {
+        this.uiSectionRepository = uiSectionRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.subscribe(LAYOUT_REGION, key -> doInvalidate());
+    }
+
+    /**
+     * Get the page layout, building it if no snapshot is available.
+     *
+     * @return the layout snapshot, which must not be modified.
+     */
+    public LayoutDTO getLayout() {
+        LayoutDTO layout = snapshot;
+        if (layout != null) {
+            return layout;
+        }
+        long buildGeneration = generation.get();
+        layout = buildLayout();
+        synchronized (this) {
+            // do not publish a layout read before a concurrent invalidation
+            if (generation.get() == buildGeneration) {
+                snapshot = layout;
+            }
+        }
+        return layout;
+    }
+
+    /**
+     * Drop the layout snapshot, to be called whenever a section or an element is created, updated or deleted.
+     * <p>
+     * When called within a transaction, the snapshot is dropped once more after commit, so that a layout built from
+     * the not yet committed state cannot be kept. The other instances are notified through the
+     * {@link CacheInvalidationBus}.
+     */
+    public void invalidate() {
+        LOG.debug("Invalidating layout snapshot");
+        doInvalidate();
+        cacheInvalidationBus.publish(LAYOUT_REGION, CacheInvalidationBus.ALL_KEYS);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        doInvalidate();
+                    }
+                }
+            );
+        }
+    }
+
+    private synchronized void doInvalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private LayoutDTO buildLayout() {
+        LOG.debug("Building layout snapshot");
+        Map<Long, LayoutSectionDTO> sectionsById = new LinkedHashMap<>();
+        Map<SectionType, List<LayoutSectionDTO>> sections = new EnumMap<>(SectionType.class);
+        for (UiSectionWithElement row : uiSectionRepository.findAllWithElements()) {
+            LayoutSectionDTO section = sectionsById.computeIfAbsent(row.getSection().getId(), id -> {
+                LayoutSectionDTO layoutSection = new LayoutSectionDTO(row.getSection());
+                sections.computeIfAbsent(row.getSection().getTitle(), type -> new ArrayList<>()).add(layoutSection);
+                return layoutSection;
+            });
+            if (row.getElement() != null) {
+                section.getElements().add(new LayoutElementDTO(row.getElement()));
+            }
+        }
+        sectionsById.values().forEach(section -> section.setElements(List.copyOf(section.getElements())));
+        sections.replaceAll((type, sectionsOfType) -> List.copyOf(sectionsOfType));
+
+        LayoutDTO layout = new LayoutDTO();
+        layout.setSections(Collections.unmodifiableMap(sections));
+        return layout;
+    }
+}
@@ -0,0 +1,193 @@
+package at.alpscraft.service;
+
+import at.alpscraft.config.ApplicationProperties;
+import at.alpscraft.domain.MailOutboxMessage;
+import at.alpscraft.repository.MailOutboxMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service delivering the emails stored in the outbox by the {@link MailService}, when {@code application.mail.outbox.enabled}
+ * is set.
+ * <p>
+ * The due emails are locked in batches with {@code for update skip locked}, so that several instances can drain the outbox
+ * together, and each batch is sent over a single SMTP connection. Delivered emails are deleted; the others are retried with
+ * an exponential backoff, and given up after {@code max-attempts}, keeping them in the table for inspection.
+ */
+@Service
+public class MailOutboxWorker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MailOutboxWorker.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ApplicationProperties.Mail.Outbox properties;
+
+    private final MailOutboxMessageRepository mailOutboxMessageRepository;
+
+    private final MailService mailService;
+
+    private final JavaMailSender javaMailSender;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private final Timer sendTimer;
+
+    private final Timer deliveryTimer;
+
+    private final Counter retriedCounter;
+
+    private final Counter givenUpCounter;
+
+    public MailOutboxWorker(
+        ApplicationProperties applicationProperties,
+        MailOutboxMessageRepository mailOutboxMessageRepository,
+        MailService mailService,
+        JavaMailSender javaMailSender,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = applicationProperties.getMail().getOutbox();
+        this.mailOutboxMessageRepository = mailOutboxMessageRepository;
+        this.mailService = mailService;
+        this.javaMailSender = javaMailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder("mail.outbox.pending", pending, AtomicLong::get)
+            .description("Number of emails waiting in the outbox, as of the last poll")
+            .register(meterRegistry);
+        this.sendTimer = Timer.builder("mail.outbox.send").description("Time spent sending a batch of emails").register(meterRegistry);
+        this.deliveryTimer = Timer.builder("mail.outbox.delivery")
+            .description("Time from queueing an email to its delivery")
+            .register(meterRegistry);
+        this.retriedCounter = failureCounter("retried", meterRegistry);
+        this.givenUpCounter = failureCounter("given-up", meterRegistry);
+    }
+
+    private static Counter failureCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("mail.outbox.failures")
+            .description("Number of failed email deliveries")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Delivers the due emails, batch after batch until the outbox holds no more due emails.
+     */
+    @Scheduled(fixedDelayString = "${application.mail.outbox.poll-interval-ms:5000}")
+    public void deliverPendingMessages() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Integer sent;
+        do {
+            sent = transactionTemplate.execute(status -> deliverBatch());
+        } while (sent != null && sent == properties.getBatchSize());
+        pending.set(mailOutboxMessageRepository.countByNextAttemptAtIsNotNull());
+    }
+
+    private int deliverBatch() {
+        List<MailOutboxMessage> messages = mailOutboxMessageRepository.findDueForUpdate(Instant.now(), properties.getBatchSize());
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        Map<MimeMessage, MailOutboxMessage> mimeMessages = new IdentityHashMap<>();
+        for (MailOutboxMessage message : messages) {
+            try {
+                mimeMessages.put(
+                    mailService.createMimeMessage(
+                        message.getRecipient(),
+                        message.getSubject(),
+                        message.getContent(),
+                        message.getMultipart(),
+                        message.getHtml()
+                    ),
+                    message
+                );
+            } catch (MessagingException e) {
+                giveUp(message, e);
+            }
+        }
+
+        Map<Object, Exception> failures = Collections.emptyMap();
+        Exception batchFailure = null;
+        Timer.Sample sample = Timer.start();
+        try {
+            javaMailSender.send(mimeMessages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            batchFailure = e;
+        } catch (MailException e) {
+            batchFailure = e;
+        }
+        sample.stop(sendTimer);
+
+        Instant now = Instant.now();
+        List<MailOutboxMessage> delivered = new ArrayList<>();
+        for (Map.Entry<MimeMessage, MailOutboxMessage> entry : mimeMessages.entrySet()) {
+            Exception failure = failures.isEmpty() ? batchFailure : failures.get(entry.getKey());
+            if (failure == null) {
+                delivered.add(entry.getValue());
+                deliveryTimer.record(Duration.between(entry.getValue().getCreatedDate(), now));
+            } else {
+                retry(entry.getValue(), failure, now);
+            }
+        }
+        mailOutboxMessageRepository.deleteAllInBatch(delivered);
+        LOG.debug("Delivered {} of {} emails", delivered.size(), messages.size());
+        return messages.size();
+    }
+
+    private void retry(MailOutboxMessage message, Exception failure, Instant now) {
+        int attempts = message.getAttempts() + 1;
+        if (attempts >= properties.getMaxAttempts()) {
+            giveUp(message, failure);
+            return;
+        }
+        long backoff = Math.min(properties.getMaxBackoffMs(), properties.getInitialBackoffMs() << Math.min(attempts - 1, 30));
+        LOG.warn(
+            "Email {} to '{}' could not be sent, retrying in {} ms: {}",
+            message.getId(),
+            message.getRecipient(),
+            backoff,
+            failure.getMessage()
+        );
+        message
+            .attempts(attempts)
+            .nextAttemptAt(now.plusMillis(backoff))
+            .lastError(StringUtils.abbreviate(failure.getMessage(), MAX_ERROR_LENGTH));
+        retriedCounter.increment();
+    }
+
+    private void giveUp(MailOutboxMessage message, Exception failure) {
+        LOG.error("Email {} to '{}' could not be sent, giving up", message.getId(), message.getRecipient(), failure);
+        message
+            .attempts(message.getAttempts() + 1)
+            .nextAttemptAt(null)
+            .lastError(StringUtils.abbreviate(failure.getMessage(), MAX_ERROR_LENGTH));
+        givenUpCounter.increment();
+    }
+}
@@ -1,14 +1,28 @@
 package at.alpscraft.service;
 
+import at.alpscraft.config.ApplicationProperties;
+import at.alpscraft.config.Constants;
+import at.alpscraft.domain.MailOutboxMessage;
 import at.alpscraft.domain.User;
+import at.alpscraft.repository.MailOutboxMessageRepository;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
 import org.springframework.context.MessageSource;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
@@ -20,7 +34,12 @@ import tech.jhipster.config.JHipsterProperties;
 /**
  * Service for sending emails asynchronously.
  * <p>
- * We use the {@link Async} annotation to send emails asynchronously.
+ * We use the {@link Async} annotation to send emails asynchronously. With {@code application.mail.outbox.enabled}, the
+ * emails are stored in the outbox instead, and delivered in batches by the {@link MailOutboxWorker}.
+ * <p>
+ * Templates are parsed once by the template engine when {@code spring.thymeleaf.cache} is set, which also caches the
+ * subjects per title key and locale. Emails to several users are rendered in one pass, with one context and one subject
+ * per language.
  */
 @Service
 public class MailService {
@@ -39,82 +58,194 @@ public class MailService {
 
     private final SpringTemplateEngine templateEngine;
 
+    private final ApplicationProperties.Mail.Outbox outboxProperties;
+
+    private final MailOutboxMessageRepository mailOutboxMessageRepository;
+
+    private final boolean cacheSubjects;
+
+    private final Map<String, String> subjects = new ConcurrentHashMap<>();
+
     public MailService(
         JHipsterProperties jHipsterProperties,
         JavaMailSender javaMailSender,
         MessageSource messageSource,
-        SpringTemplateEngine templateEngine
+        SpringTemplateEngine templateEngine,
+        ApplicationProperties applicationProperties,
+        MailOutboxMessageRepository mailOutboxMessageRepository,
+        ThymeleafProperties thymeleafProperties
     ) {
         this.jHipsterProperties = jHipsterProperties;
         this.javaMailSender = javaMailSender;
         this.messageSource = messageSource;
         this.templateEngine = templateEngine;
+        this.outboxProperties = applicationProperties.getMail().getOutbox();
+        this.mailOutboxMessageRepository = mailOutboxMessageRepository;
+        this.cacheSubjects = thymeleafProperties.isCache();
     }
 
-    @Async
+    @Async("mailExecutor")
     public void sendEmail(String to, String subject, String content, boolean isMultipart, boolean isHtml) {
-        sendEmailSync(to, subject, content, isMultipart, isHtml);
+        sendEmailsSync(List.of(new Email(to, subject, content, isMultipart, isHtml)));
     }
 
-    private void sendEmailSync(String to, String subject, String content, boolean isMultipart, boolean isHtml) {
-        LOG.debug(
-            "Send email[multipart '{}' and html '{}'] to '{}' with subject '{}' and content={}",
-            isMultipart,
-            isHtml,
-            to,
-            subject,
-            content
-        );
+    private void sendEmailsSync(List<Email> emails) {
+        for (Email email : emails) {
+            LOG.debug(
+                "Send email[multipart '{}' and html '{}'] to '{}' with subject '{}' and content={}",
+                email.isMultipart(),
+                email.isHtml(),
+                email.to(),
+                email.subject(),
+                email.content()
+            );
+        }
 
-        // Prepare message using a Spring helper
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        if (outboxProperties.isEnabled()) {
+            Instant now = Instant.now();
+            mailOutboxMessageRepository.saveAll(
+                emails
+                    .stream()
+                    .map(email ->
+                        new MailOutboxMessage()
+                            .recipient(email.to())
+                            .subject(email.subject())
+                            .content(email.content())
+                            .multipart(email.isMultipart())
+                            .html(email.isHtml())
+                            .nextAttemptAt(now)
+                            .createdDate(now)
+                    )
+                    .toList()
+            );
+            LOG.debug("Queued {} emails", emails.size());
+            return;
+        }
+        if (emails.size() == 1) {
+            Email email = emails.get(0);
+            try {
+                javaMailSender.send(createMimeMessage(email.to(), email.subject(), email.content(), email.isMultipart(), email.isHtml()));
+                LOG.debug("Sent email to User '{}'", email.to());
+            } catch (MailException | MessagingException e) {
+                LOG.warn("Email could not be sent to user '{}'", email.to(), e);
+            }
+            return;
+        }
+        sendBatchSync(emails);
+    }
+
+    /**
+     * Sends several emails over a single SMTP connection.
+     */
+    private void sendBatchSync(List<Email> emails) {
+        List<MimeMessage> mimeMessages = new ArrayList<>(emails.size());
+        for (Email email : emails) {
+            try {
+                mimeMessages.add(createMimeMessage(email.to(), email.subject(), email.content(), email.isMultipart(), email.isHtml()));
+            } catch (MessagingException e) {
+                LOG.warn("Email could not be sent to user '{}'", email.to(), e);
+            }
+        }
         try {
-            MimeMessageHelper message = new MimeMessageHelper(mimeMessage, isMultipart, StandardCharsets.UTF_8.name());
-            message.setTo(to);
-            message.setFrom(jHipsterProperties.getMail().getFrom());
-            message.setSubject(subject);
-            message.setText(content, isHtml);
-            javaMailSender.send(mimeMessage);
-            LOG.debug("Sent email to User '{}'", to);
-        } catch (MailException | MessagingException e) {
-            LOG.warn("Email could not be sent to user '{}'", to, e);
+            javaMailSender.send(mimeMessages.toArray(MimeMessage[]::new));
+            LOG.debug("Sent {} emails", mimeMessages.size());
+        } catch (MailSendException e) {
+            LOG.warn("{} of {} emails could not be sent", e.getFailedMessages().size(), mimeMessages.size(), e);
+        } catch (MailException e) {
+            LOG.warn("{} emails could not be sent", mimeMessages.size(), e);
         }
     }
 
-    @Async
+    MimeMessage createMimeMessage(String to, String subject, String content, boolean isMultipart, boolean isHtml)
+        throws MessagingException {
+        // Prepare message using a Spring helper
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper message = new MimeMessageHelper(mimeMessage, isMultipart, StandardCharsets.UTF_8.name());
+        message.setTo(to);
+        message.setFrom(jHipsterProperties.getMail().getFrom());
+        message.setSubject(subject);
+        message.setText(content, isHtml);
+        return mimeMessage;
+    }
+
+    @Async("mailExecutor")
     public void sendEmailFromTemplate(User user, String templateName, String titleKey) {
-        sendEmailFromTemplateSync(user, templateName, titleKey);
+        sendEmailFromTemplateSync(List.of(user), templateName, titleKey);
     }
 
-    private void sendEmailFromTemplateSync(User user, String templateName, String titleKey) {
-        if (user.getEmail() == null) {
-            LOG.debug("Email doesn't exist for user '{}'", user.getLogin());
-            return;
+    /**
+     * Renders and sends a template to several users at once.
+     *
+     * @param users the recipients, the ones without email are skipped.
+     * @param templateName the template.
+     * @param titleKey the message key of the subject.
+     */
+    @Async("mailExecutor")
+    public void sendEmailFromTemplate(Collection<User> users, String templateName, String titleKey) {
+        sendEmailFromTemplateSync(users, templateName, titleKey);
+    }
+
+    private void sendEmailFromTemplateSync(Collection<User> users, String templateName, String titleKey) {
+        Map<String, List<User>> usersByLangKey = new LinkedHashMap<>();
+        for (User user : users) {
+            if (user.getEmail() == null) {
+                LOG.debug("Email doesn't exist for user '{}'", user.getLogin());
+            } else {
+                String langKey = Objects.requireNonNullElse(user.getLangKey(), Constants.DEFAULT_LANGUAGE);
+                usersByLangKey.computeIfAbsent(langKey, key -> new ArrayList<>()).add(user);
+            }
         }
-        Locale locale = Locale.forLanguageTag(user.getLangKey());
-        Context context = new Context(locale);
-        context.setVariable(USER, user);
-        context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
-        String content = templateEngine.process(templateName, context);
-        String subject = messageSource.getMessage(titleKey, null, locale);
-        sendEmailSync(user.getEmail(), subject, content, false, true);
+        List<Email> emails = new ArrayList<>(users.size());
+        usersByLangKey.forEach((langKey, langUsers) -> {
+            Locale locale = Locale.forLanguageTag(langKey);
+            String subject = getSubject(titleKey, locale);
+            Context context = new Context(locale);
+            context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
+            for (User user : langUsers) {
+                context.setVariable(USER, user);
+                emails.add(new Email(user.getEmail(), subject, templateEngine.process(templateName, context), false, true));
+            }
+        });
+        if (!emails.isEmpty()) {
+            sendEmailsSync(emails);
+        }
+    }
+
+    private String getSubject(String titleKey, Locale locale) {
+        if (!cacheSubjects) {
+            return messageSource.getMessage(titleKey, null, locale);
+        }
+        return subjects.computeIfAbsent(locale.toLanguageTag() + ':' + titleKey, key -> messageSource.getMessage(titleKey, null, locale));
     }
 
-    @Async
+    @Async("mailExecutor")
     public void sendActivationEmail(User user) {
         LOG.debug("Sending activation email to '{}'", user.getEmail());
-        sendEmailFromTemplateSync(user, "mail/activationEmail", "email.activation.title");
+        sendEmailFromTemplateSync(List.of(user), "mail/activationEmail", "email.activation.title");
     }
 
-    @Async
+    @Async("mailExecutor")
     public void sendCreationEmail(User user) {
         LOG.debug("Sending creation email to '{}'", user.getEmail());
-        sendEmailFromTemplateSync(user, "mail/creationEmail", "email.activation.title");
+        sendEmailFromTemplateSync(List.of(user), "mail/creationEmail", "email.activation.title");
     }
 
-    @Async
+    /**
+     * Sends the creation email to users created in bulk, rendered in one pass.
+     *
+     * @param users the created users.
+     */
+    @Async("mailExecutor")
+    public void sendCreationEmails(Collection<User> users) {
+        LOG.debug("Sending creation emails to {} users", users.size());
+        sendEmailFromTemplateSync(users, "mail/creationEmail", "email.activation.title");
+    }
+
+    @Async("mailExecutor")
     public void sendPasswordResetMail(User user) {
         LOG.debug("Sending password reset email to '{}'", user.getEmail());
-        sendEmailFromTemplateSync(user, "mail/passwordResetEmail", "email.reset.title");
+        sendEmailFromTemplateSync(List.of(user), "mail/passwordResetEmail", "email.reset.title");
     }
+
+    private record Email(String to, String subject, String content, boolean isMultipart, boolean isHtml) {}
 }
@@ -0,0 +1,71 @@
+package at.alpscraft.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The serialized JSON representation of an entity, kept gzipped so it can be written to the client as is, along
+ * with the version of the entity it was rendered from.
+ */
+public final class RenderedContent implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] gzippedBody;
+
+    private final Integer version;
+
+    private RenderedContent(byte[] gzippedBody, Integer version) {
+        this.gzippedBody = gzippedBody;
+        this.version = version;
+    }
+
+    /**
+     * Build a rendered content from an uncompressed body.
+     *
+     * @param body the serialized body.
+     * @param version the version of the rendered entity.
+     * @return the rendered content holding the gzipped body.
+     */
+    public static RenderedContent of(byte[] body, Integer version) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new RenderedContent(out.toByteArray(), version);
+    }
+
+    /**
+     * @return the version of the rendered entity.
+     */
+    public Integer getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the gzipped body, to be sent with {@code Content-Encoding: gzip}.
+     */
+    public byte[] getGzippedBody() {
+        return gzippedBody;
+    }
+
+    /**
+     * @return the uncompressed body, for clients which do not accept gzip.
+     */
+    public byte[] getBody() {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(gzippedBody))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
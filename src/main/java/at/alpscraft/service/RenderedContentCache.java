@@ -0,0 +1,169 @@
+package at.alpscraft.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service caching the rendered, gzipped JSON of publicly delivered entities.
+ * <p>
+ * A hit is served without touching JPA nor Jackson. Entries are keyed by entity id and must be evicted by every
+ * write to the entity through {@link #evict(String, Long)}.
+ * <p>
+ * Each eviction bumps a generation shared by the ids hashed to the same stripe, and a miss only caches what it loaded
+ * if the generation of its stripe did not change meanwhile, so that a state read before a concurrent write cannot be
+ * cached after the eviction of that write.
+ */
+@Service
+public class RenderedContentCache {
+
+    public static final String STATIC_PAGES_CACHE = "renderedStaticPages";
+
+    public static final String BLOG_POSTS_CACHE = "renderedBlogPosts";
+
+    private static final Logger LOG = LoggerFactory.getLogger(RenderedContentCache.class);
+
+    private static final int STRIPES = 1024;
+
+    private final CacheManager cacheManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    private final Object[] locks = new Object[STRIPES];
+
+    public RenderedContentCache(CacheManager cacheManager, ObjectMapper objectMapper, CacheInvalidationBus cacheInvalidationBus) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        Arrays.setAll(locks, i -> new Object());
+        for (String cacheName : List.of(STATIC_PAGES_CACHE, BLOG_POSTS_CACHE)) {
+            cacheInvalidationBus.subscribe(cacheName, key -> {
+                if (CacheInvalidationBus.ALL_KEYS.equals(key)) {
+                    doClear(cacheName);
+                } else {
+                    doEvict(cacheName, Long.valueOf(key));
+                }
+            });
+        }
+    }
+
+    /**
+     * Get the rendered content of an entity, rendering and caching it on a miss.
+     *
+     * @param cacheName the cache holding the rendered entities of that type.
+     * @param id the id of the entity.
+     * @param loader the function loading the entity on a miss.
+     * @param versionExtractor the function reading the version of the loaded entity.
+     * @param <T> the type of the entity.
+     * @return the rendered content, or empty if the entity does not exist.
+     */
+    public <T> Optional<RenderedContent> get(
+        String cacheName,
+        Long id,
+        Function<Long, Optional<T>> loader,
+        Function<T, Integer> versionExtractor
+    ) {
+        Cache cache = getCache(cacheName);
+        RenderedContent renderedContent = cache.get(id, RenderedContent.class);
+        if (renderedContent != null) {
+            return Optional.of(renderedContent);
+        }
+        int stripe = stripe(cacheName, id);
+        long loadGeneration = generations.get(stripe);
+        Optional<RenderedContent> rendered = loader.apply(id).map(entity -> render(entity, versionExtractor.apply(entity)));
+        rendered.ifPresent(content -> {
+            synchronized (locks[stripe]) {
+                // do not cache a state read before a concurrent eviction
+                if (generations.get(stripe) == loadGeneration) {
+                    cache.put(id, content);
+                }
+            }
+        });
+        return rendered;
+    }
+
+    /**
+     * Render an entity without caching it, for the entities that must not be delivered to every reader.
+     *
+     * @param entity the entity.
+     * @param versionExtractor the function reading the version of the entity.
+     * @param <T> the type of the entity.
+     * @return the rendered content.
+     */
+    public <T> RenderedContent render(T entity, Function<T, Integer> versionExtractor) {
+        return render(entity, versionExtractor.apply(entity));
+    }
+
+    /**
+     * Evict the rendered content of an entity.
+     * <p>
+     * The entry is evicted right away and, when called within a transaction, once more after commit, so that a
+     * concurrent read of the not yet committed state is not cached. The other instances are notified through the
+     * {@link CacheInvalidationBus}.
+     *
+     * @param cacheName the cache holding the rendered entities of that type.
+     * @param id the id of the entity.
+     */
+    public void evict(String cacheName, Long id) {
+        LOG.debug("Evicting rendered content {} from {}", id, cacheName);
+        doEvict(cacheName, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        doEvict(cacheName, id);
+                    }
+                }
+            );
+        }
+        cacheInvalidationBus.publish(cacheName, id);
+    }
+
+    private void doEvict(String cacheName, Long id) {
+        int stripe = stripe(cacheName, id);
+        synchronized (locks[stripe]) {
+            generations.incrementAndGet(stripe);
+            getCache(cacheName).evict(id);
+        }
+    }
+
+    private void doClear(String cacheName) {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+        getCache(cacheName).clear();
+    }
+
+    private static int stripe(String cacheName, Long id) {
+        return Math.floorMod(31 * cacheName.hashCode() + id.hashCode(), STRIPES);
+    }
+
+    private RenderedContent render(Object entity, Integer version) {
+        try {
+            return RenderedContent.of(objectMapper.writeValueAsBytes(entity), version);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render " + entity, e);
+        }
+    }
+
+    private Cache getCache(String cacheName) {
+        return Objects.requireNonNull(cacheManager.getCache(cacheName), cacheName);
+    }
+}
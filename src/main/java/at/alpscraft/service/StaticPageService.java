@@ -0,0 +1,43 @@
+package at.alpscraft.service;
+
+import at.alpscraft.domain.StaticPage;
+import at.alpscraft.domain.enumeration.RevisionEntityType;
+import at.alpscraft.repository.StaticPageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for saving {@link at.alpscraft.domain.StaticPage}s with their revisions.
+ */
+@Service
+@Transactional
+public class StaticPageService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StaticPageService.class);
+
+    private final StaticPageRepository staticPageRepository;
+
+    private final ContentRevisionService contentRevisionService;
+
+    public StaticPageService(StaticPageRepository staticPageRepository, ContentRevisionService contentRevisionService) {
+        this.staticPageRepository = staticPageRepository;
+        this.contentRevisionService = contentRevisionService;
+    }
+
+    /**
+     * Save a staticPage and record its revision in the same transaction. The row of the staticPage stays locked until the
+     * transaction ends, so concurrent edits of a staticPage are recorded one after the other.
+     *
+     * @param staticPage the staticPage to save.
+     * @return the persisted staticPage.
+     */
+    public StaticPage save(StaticPage staticPage) {
+        LOG.debug("Request to save StaticPage : {}", staticPage);
+        StaticPage result = staticPageRepository.saveAndFlush(staticPage);
+        staticPageRepository.lockById(result.getId());
+        contentRevisionService.record(RevisionEntityType.STATIC_PAGE, result.getId(), result.getTitle(), result.getContent());
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+package at.alpscraft.service;
+
+import at.alpscraft.domain.RevokedToken;
+import at.alpscraft.repository.RevokedTokenRepository;
+import at.alpscraft.security.jwt.CachingJwtDecoder;
+import at.alpscraft.security.jwt.TokenRevocationList;
+import java.time.Instant;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service revoking JWTs before their expiry.
+ * <p>
+ * Revoked token ids are persisted in {@code revoked_token} and mirrored into the {@link TokenRevocationList} checked on
+ * every decoded token. The other instances add the ids revoked here as they receive them from the
+ * {@link CacheInvalidationBus}, and reload them all after having missed notifications. The expired ids, which the expiry
+ * check already rejects, are deleted hourly.
+ */
+@Service
+public class TokenRevocationService {
+
+    /**
+     * Region of the {@link CacheInvalidationBus} the revoked token ids are broadcast in.
+     */
+    public static final String REVOKED_TOKENS_REGION = "revokedTokens";
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    private final CachingJwtDecoder jwtDecoder;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TokenRevocationService(
+        RevokedTokenRepository revokedTokenRepository,
+        TokenRevocationList tokenRevocationList,
+        CachingJwtDecoder jwtDecoder,
+        CacheInvalidationBus cacheInvalidationBus,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.jwtDecoder = jwtDecoder;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        cacheInvalidationBus.subscribe(REVOKED_TOKENS_REGION, this::onRemoteRevocation);
+    }
+
+    /**
+     * Revokes a token until its expiry. Tokens without an id, issued before revocation was supported, cannot be revoked.
+     *
+     * @param token the encoded token.
+     * @param jti the {@code jti} claim of the token.
+     * @param expiresAt the expiry of the token.
+     * @return whether the token was revoked.
+     */
+    @Transactional
+    public boolean revoke(String token, String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null) {
+            LOG.debug("Cannot revoke a token without id or expiry");
+            return false;
+        }
+        LOG.debug("Revoking token {}", jti);
+        if (!revokedTokenRepository.existsById(jti)) {
+            revokedTokenRepository.save(new RevokedToken().jti(jti).expiresAt(expiresAt));
+        }
+        tokenRevocationList.add(jti);
+        jwtDecoder.evict(token);
+        cacheInvalidationBus.publish(REVOKED_TOKENS_REGION, jti);
+        return true;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            LOG.warn("Could not load the revoked tokens, they are loaded again at the next purge: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the expired revoked tokens and reloads the others, which shrinks the in-memory copy.
+     */
+    @Scheduled(cron = "0 30 * * * ?")
+    @Transactional
+    public void purgeExpiredTokens() {
+        int deleted = revokedTokenRepository.deleteByExpiresAtNotAfter(Instant.now());
+        LOG.debug("Deleted {} expired revoked tokens", deleted);
+        reload();
+    }
+
+    /**
+     * Replaces the in-memory copy of the revoked token ids by the unexpired ones in the database.
+     *
+     * @return the number of revoked tokens.
+     */
+    public int reload() {
+        int revoked = transactionTemplate.execute(status -> {
+            try (Stream<String> jtis = revokedTokenRepository.streamJtisByExpiresAtAfter(Instant.now())) {
+                return tokenRevocationList.replaceAll(jtis.iterator());
+            }
+        });
+        LOG.info("Loaded {} revoked tokens", revoked);
+        return revoked;
+    }
+
+    private void onRemoteRevocation(String jti) {
+        if (CacheInvalidationBus.ALL_KEYS.equals(jti)) {
+            reload();
+        } else {
+            tokenRevocationList.add(jti);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package at.alpscraft.service.dto;
+
+import at.alpscraft.domain.enumeration.PostStatus;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link at.alpscraft.domain.BlogPost} entity, with its category and author.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class BlogPostDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String title;
+
+    private String content;
+
+    private PostStatus status;
+
+    private Instant publishAt;
+
+    private PostCategoryDTO category;
+
+    private UserDTO author;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public PostStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PostStatus status) {
+        this.status = status;
+    }
+
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public void setPublishAt(Instant publishAt) {
+        this.publishAt = publishAt;
+    }
+
+    public PostCategoryDTO getCategory() {
+        return category;
+    }
+
+    public void setCategory(PostCategoryDTO category) {
+        this.category = category;
+    }
+
+    public UserDTO getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(UserDTO author) {
+        this.author = author;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BlogPostDTO)) {
+            return false;
+        }
+
+        BlogPostDTO blogPostDTO = (BlogPostDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, blogPostDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BlogPostDTO{" +
+            "id=" + getId() +
+            ", title='" + getTitle() + "'" +
+            ", content='" + getContent() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", publishAt='" + getPublishAt() + "'" +
+            ", category=" + getCategory() +
+            ", author=" + getAuthor() +
+            "}";
+    }
+}
@@ -0,0 +1,34 @@
+package at.alpscraft.service.dto;
+
+import at.alpscraft.domain.enumeration.SectionType;
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A DTO representing the page layout: every {@link at.alpscraft.domain.UiSection} with its elements, grouped by
+ * {@link SectionType}.
+ */
+public class LayoutDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Map<SectionType, List<LayoutSectionDTO>> sections = new EnumMap<>(SectionType.class);
+
+    public Map<SectionType, List<LayoutSectionDTO>> getSections() {
+        return sections;
+    }
+
+    public void setSections(Map<SectionType, List<LayoutSectionDTO>> sections) {
+        this.sections = sections;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "LayoutDTO{" +
+            "sections=" + getSections() +
+            "}";
+    }
+}
@@ -0,0 +1,86 @@
+package at.alpscraft.service.dto;
+
+import at.alpscraft.domain.UiSectionElement;
+import at.alpscraft.domain.enumeration.SectionType;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for a {@link UiSectionElement} within the page layout.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class LayoutElementDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private SectionType title;
+
+    private String content;
+
+    public LayoutElementDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public LayoutElementDTO(UiSectionElement uiSectionElement) {
+        this.id = uiSectionElement.getId();
+        this.title = uiSectionElement.getTitle();
+        this.content = uiSectionElement.getContent();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public SectionType getTitle() {
+        return title;
+    }
+
+    public void setTitle(SectionType title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LayoutElementDTO)) {
+            return false;
+        }
+
+        LayoutElementDTO layoutElementDTO = (LayoutElementDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, layoutElementDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "LayoutElementDTO{" +
+            "id=" + getId() +
+            ", title='" + getTitle() + "'" +
+            ", content='" + getContent() + "'" +
+            "}";
+    }
+}
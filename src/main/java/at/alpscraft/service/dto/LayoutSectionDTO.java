@@ -0,0 +1,98 @@
+package at.alpscraft.service.dto;
+
+import at.alpscraft.domain.UiSection;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A DTO for a {@link UiSection} within the page layout, with its elements.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class LayoutSectionDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String cssClass;
+
+    private String content;
+
+    private List<LayoutElementDTO> elements = new ArrayList<>();
+
+    public LayoutSectionDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public LayoutSectionDTO(UiSection uiSection) {
+        this.id = uiSection.getId();
+        this.cssClass = uiSection.getCssClass();
+        this.content = uiSection.getContent();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCssClass() {
+        return cssClass;
+    }
+
+    public void setCssClass(String cssClass) {
+        this.cssClass = cssClass;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public List<LayoutElementDTO> getElements() {
+        return elements;
+    }
+
+    public void setElements(List<LayoutElementDTO> elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LayoutSectionDTO)) {
+            return false;
+        }
+
+        LayoutSectionDTO layoutSectionDTO = (LayoutSectionDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, layoutSectionDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "LayoutSectionDTO{" +
+            "id=" + getId() +
+            ", cssClass='" + getCssClass() + "'" +
+            ", content='" + getContent() + "'" +
+            ", elements=" + getElements() +
+            "}";
+    }
+}
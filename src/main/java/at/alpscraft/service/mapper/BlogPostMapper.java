@@ -0,0 +1,48 @@
+package at.alpscraft.service.mapper;
+
+import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.PostCategory;
+import at.alpscraft.service.dto.BlogPostDTO;
+import at.alpscraft.service.dto.PostCategoryDTO;
+import at.alpscraft.service.dto.UserDTO;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.stereotype.Service;
+
+/**
+ * Mapper for the entity {@link BlogPost} and its DTO called {@link BlogPostDTO}.
+ * <p>
+ * The category and author are read from the entity, so callers must load them up front
+ * (see {@link at.alpscraft.repository.BlogPostRepository#findAllWithToOneRelationshipsByStatusIn}) to avoid one select per post.
+ */
+@Service
+public class BlogPostMapper {
+
+    public List<BlogPostDTO> blogPostsToBlogPostDTOs(List<BlogPost> blogPosts) {
+        return blogPosts.stream().filter(Objects::nonNull).map(this::blogPostToBlogPostDTO).toList();
+    }
+
+    public BlogPostDTO blogPostToBlogPostDTO(BlogPost blogPost) {
+        BlogPostDTO blogPostDTO = new BlogPostDTO();
+        blogPostDTO.setId(blogPost.getId());
+        blogPostDTO.setTitle(blogPost.getTitle());
+        blogPostDTO.setContent(blogPost.getContent());
+        blogPostDTO.setStatus(blogPost.getStatus());
+        blogPostDTO.setPublishAt(blogPost.getPublishAt());
+        if (blogPost.getCategory() != null) {
+            blogPostDTO.setCategory(postCategoryToPostCategoryDTO(blogPost.getCategory()));
+        }
+        if (blogPost.getAuthor() != null) {
+            blogPostDTO.setAuthor(new UserDTO(blogPost.getAuthor()));
+        }
+        return blogPostDTO;
+    }
+
+    public PostCategoryDTO postCategoryToPostCategoryDTO(PostCategory postCategory) {
+        PostCategoryDTO postCategoryDTO = new PostCategoryDTO();
+        postCategoryDTO.setId(postCategory.getId());
+        postCategoryDTO.setName(postCategory.getName());
+        postCategoryDTO.setDescription(postCategory.getDescription());
+        return postCategoryDTO;
+    }
+}
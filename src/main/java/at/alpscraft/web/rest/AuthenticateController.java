@@ -3,12 +3,15 @@ package at.alpscraft.web.rest;
 import static at.alpscraft.security.SecurityUtils.AUTHORITIES_KEY;
 import static at.alpscraft.security.SecurityUtils.JWT_ALGORITHM;
 
+import at.alpscraft.security.LoginAttemptLimiter;
 import at.alpscraft.web.rest.vm.LoginVM;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.security.Principal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +23,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.JwsHeader;
@@ -47,19 +51,45 @@ public class AuthenticateController {
 
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
-    public AuthenticateController(JwtEncoder jwtEncoder, AuthenticationManagerBuilder authenticationManagerBuilder) {
+    private final LoginAttemptLimiter loginAttemptLimiter;
+
+    public AuthenticateController(
+        JwtEncoder jwtEncoder,
+        AuthenticationManagerBuilder authenticationManagerBuilder,
+        LoginAttemptLimiter loginAttemptLimiter
+    ) {
         this.jwtEncoder = jwtEncoder;
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.loginAttemptLimiter = loginAttemptLimiter;
     }
 
+    /**
+     * {@code POST /authenticate} : authenticate the user and return a JWT.
+     * <p>
+     * Logins and client addresses with too many recent failures are rejected with status {@code 429 (Too Many Requests)}
+     * before the user is loaded or the password is checked.
+     *
+     * @param loginVM the login and password.
+     * @param request the request, to get the client address from.
+     * @return the JWT, in the body and in the {@code Authorization} header.
+     */
     @PostMapping("/authenticate")
-    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM) {
+    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM, HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        loginAttemptLimiter.checkAllowed(loginVM.getUsername(), address);
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
             loginVM.getUsername(),
             loginVM.getPassword()
         );
 
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        Authentication authentication;
+        try {
+            authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        } catch (AuthenticationException e) {
+            loginAttemptLimiter.loginFailed(loginVM.getUsername(), address);
+            throw e;
+        }
+        loginAttemptLimiter.loginSucceeded(loginVM.getUsername());
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = this.createToken(authentication, loginVM.isRememberMe());
         HttpHeaders httpHeaders = new HttpHeaders();
@@ -92,6 +122,7 @@ public class AuthenticateController {
 
         // @formatter:off
         JwtClaimsSet claims = JwtClaimsSet.builder()
+            .id(UUID.randomUUID().toString())
             .issuedAt(now)
             .expiresAt(validity)
             .subject(authentication.getName())
@@ -1,22 +1,48 @@
 package at.alpscraft.web.rest;
 
 import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.enumeration.PostStatus;
+import at.alpscraft.domain.enumeration.RevisionEntityType;
 import at.alpscraft.repository.BlogPostRepository;
+import at.alpscraft.repository.BlogPostSummary;
+import at.alpscraft.repository.ContentRevisionSummary;
+import at.alpscraft.repository.PopularBlogPost;
+import at.alpscraft.security.AuthoritiesConstants;
+import at.alpscraft.security.SecurityUtils;
+import at.alpscraft.service.BlogPostPublisher;
+import at.alpscraft.service.BlogPostService;
+import at.alpscraft.service.BlogPostViewCounter;
+import at.alpscraft.service.ContentRevisionService;
+import at.alpscraft.service.RenderedContent;
+import at.alpscraft.service.RenderedContentCache;
+import at.alpscraft.service.dto.BlogPostDTO;
 import at.alpscraft.web.rest.errors.BadRequestAlertException;
+import at.alpscraft.web.rest.util.KeysetPaginationUtil;
+import at.alpscraft.web.rest.util.RenderedContentResponseUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -36,15 +62,37 @@ public class BlogPostResource {
 
     private final BlogPostRepository blogPostRepository;
 
-    public BlogPostResource(BlogPostRepository blogPostRepository) {
+    private final BlogPostService blogPostService;
+
+    private final RenderedContentCache renderedContentCache;
+
+    private final BlogPostViewCounter blogPostViewCounter;
+
+    private final BlogPostPublisher blogPostPublisher;
+
+    private final ContentRevisionService contentRevisionService;
+
+    public BlogPostResource(
+        BlogPostRepository blogPostRepository,
+        BlogPostService blogPostService,
+        RenderedContentCache renderedContentCache,
+        BlogPostViewCounter blogPostViewCounter,
+        BlogPostPublisher blogPostPublisher,
+        ContentRevisionService contentRevisionService
+    ) {
         this.blogPostRepository = blogPostRepository;
+        this.blogPostService = blogPostService;
+        this.renderedContentCache = renderedContentCache;
+        this.blogPostViewCounter = blogPostViewCounter;
+        this.blogPostPublisher = blogPostPublisher;
+        this.contentRevisionService = contentRevisionService;
     }
 
     /**
      * {@code POST  /blog-posts} : Create a new blogPost.
      *
      * @param blogPost the blogPost to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new blogPost, or with status {@code 400 (Bad Request)} if the blogPost has already an ID.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new blogPost, or with status {@code 400 (Bad Request)} if the blogPost has already an ID or is scheduled without a publish date.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("")
@@ -53,7 +101,9 @@ public class BlogPostResource {
         if (blogPost.getId() != null) {
             throw new BadRequestAlertException("A new blogPost cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        blogPost = blogPostRepository.save(blogPost);
+        validateSchedule(blogPost);
+        blogPost = blogPostService.save(blogPost);
+        scheduleIfNeeded(blogPost);
         return ResponseEntity.created(new URI("/api/blog-posts/" + blogPost.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, blogPost.getId().toString()))
             .body(blogPost);
@@ -66,6 +116,7 @@ public class BlogPostResource {
      * @param blogPost the blogPost to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated blogPost,
      * or with status {@code 400 (Bad Request)} if the blogPost is not valid,
+     * or with status {@code 409 (Conflict)} if the blogPost was updated since its version was read,
      * or with status {@code 500 (Internal Server Error)} if the blogPost couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -81,12 +132,18 @@ public class BlogPostResource {
         if (!Objects.equals(id, blogPost.getId())) {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
+        if (blogPost.getVersion() == null) {
+            throw new BadRequestAlertException("Invalid version", ENTITY_NAME, "versionnull");
+        }
 
         if (!blogPostRepository.existsById(id)) {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
+        validateSchedule(blogPost);
 
-        blogPost = blogPostRepository.save(blogPost);
+        blogPost = blogPostService.save(blogPost);
+        renderedContentCache.evict(RenderedContentCache.BLOG_POSTS_CACHE, id);
+        scheduleIfNeeded(blogPost);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, blogPost.getId().toString()))
             .body(blogPost);
@@ -129,10 +186,19 @@ public class BlogPostResource {
                 if (blogPost.getContent() != null) {
                     existingBlogPost.setContent(blogPost.getContent());
                 }
+                if (blogPost.getStatus() != null) {
+                    existingBlogPost.setStatus(blogPost.getStatus());
+                }
+                if (blogPost.getPublishAt() != null) {
+                    existingBlogPost.setPublishAt(blogPost.getPublishAt());
+                }
+                validateSchedule(existingBlogPost);
 
                 return existingBlogPost;
             })
-            .map(blogPostRepository::save);
+            .map(blogPostService::save);
+        renderedContentCache.evict(RenderedContentCache.BLOG_POSTS_CACHE, id);
+        result.ifPresent(this::scheduleIfNeeded);
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -141,27 +207,266 @@ public class BlogPostResource {
     }
 
     /**
-     * {@code GET  /blog-posts} : get all the blogPosts.
+     * {@code GET  /blog-posts} : get all the blogPosts, only the published ones unless the current user is an admin.
      *
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of blogPosts in body.
      */
     @GetMapping("")
-    public List<BlogPost> getAllBlogPosts() {
-        LOG.debug("REST request to get all BlogPosts");
-        return blogPostRepository.findAll();
+    public ResponseEntity<List<BlogPost>> getAllBlogPosts(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+        LOG.debug("REST request to get a page of BlogPosts");
+        return page(pageable, BlogPost.class);
     }
 
     /**
-     * {@code GET  /blog-posts/:id} : get the "id" blogPost.
+     * {@code GET  /blog-posts?view=summary} : get all the blogPosts, without their content.
+     *
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of blogPost summaries in body.
+     */
+    @GetMapping(value = "", params = "view=summary")
+    public ResponseEntity<List<BlogPostSummary>> getAllBlogPostSummaries(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get a page of BlogPost summaries");
+        return page(pageable, BlogPostSummary.class);
+    }
+
+    /**
+     * {@code GET  /blog-posts?view=full} : get all the blogPosts, with their category and author.
+     *
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of blogPosts in body.
+     */
+    @GetMapping(value = "", params = "view=full")
+    public ResponseEntity<List<BlogPostDTO>> getAllBlogPostsWithRelationships(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get a page of BlogPosts with relationships");
+        Page<BlogPostDTO> page = blogPostService.findAllWithRelationships(readableStatuses(), pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /blog-posts?cursor=:cursor} : get a slice of blogPosts in id order, after the given cursor.
+     * <p>
+     * An empty cursor starts from the first blogPost; the next cursor is returned in the {@code X-Next-Cursor}
+     * header and in a {@code next} {@code Link}, and is omitted on the last slice.
+     *
+     * @param cursor the opaque cursor returned by the previous slice, empty for the first one.
+     * @param size the number of blogPosts to return.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the slice of blogPosts in body,
+     * or with status {@code 400 (Bad Request)} if the cursor is malformed.
+     */
+    @GetMapping(value = "", params = KeysetPaginationUtil.CURSOR_PARAM)
+    public ResponseEntity<List<BlogPost>> getBlogPostsAfterCursor(
+        @RequestParam(KeysetPaginationUtil.CURSOR_PARAM) String cursor,
+        @RequestParam(name = KeysetPaginationUtil.SIZE_PARAM, defaultValue = "" + KeysetPaginationUtil.DEFAULT_SIZE) int size
+    ) {
+        LOG.debug("REST request to get a slice of BlogPosts after cursor : {}", cursor);
+        return sliceAfterCursor(cursor, size, BlogPost.class, BlogPost::getId);
+    }
+
+    /**
+     * {@code GET  /blog-posts?cursor=:cursor&view=summary} : get a slice of blogPosts in id order after the given cursor,
+     * without their content.
+     *
+     * @param cursor the opaque cursor returned by the previous slice, empty for the first one.
+     * @param size the number of blogPosts to return.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the slice of blogPost summaries in body,
+     * or with status {@code 400 (Bad Request)} if the cursor is malformed.
+     */
+    @GetMapping(value = "", params = { KeysetPaginationUtil.CURSOR_PARAM, "view=summary" })
+    public ResponseEntity<List<BlogPostSummary>> getBlogPostSummariesAfterCursor(
+        @RequestParam(KeysetPaginationUtil.CURSOR_PARAM) String cursor,
+        @RequestParam(name = KeysetPaginationUtil.SIZE_PARAM, defaultValue = "" + KeysetPaginationUtil.DEFAULT_SIZE) int size
+    ) {
+        LOG.debug("REST request to get a slice of BlogPost summaries after cursor : {}", cursor);
+        return sliceAfterCursor(cursor, size, BlogPostSummary.class, BlogPostSummary::getId);
+    }
+
+    /**
+     * @return the statuses of the blogPosts listed to the current user, all of them for the admins.
+     */
+    private static Collection<PostStatus> readableStatuses() {
+        return SecurityUtils.hasCurrentUserThisAuthority(AuthoritiesConstants.ADMIN)
+            ? EnumSet.allOf(PostStatus.class)
+            : EnumSet.of(PostStatus.PUBLISHED);
+    }
+
+    private static boolean canRead(PostStatus status, String authorLogin) {
+        return (
+            status == PostStatus.PUBLISHED ||
+            SecurityUtils.hasCurrentUserThisAuthority(AuthoritiesConstants.ADMIN) ||
+            (authorLogin != null && SecurityUtils.getCurrentUserLogin().filter(authorLogin::equals).isPresent())
+        );
+    }
+
+    private Optional<BlogPost> findReadable(Long id) {
+        return blogPostRepository
+            .findOneWithToOneRelationshipsById(id)
+            .filter(blogPost -> canRead(blogPost.getStatus(), blogPost.getAuthor() == null ? null : blogPost.getAuthor().getLogin()));
+    }
+
+    private void validateSchedule(BlogPost blogPost) {
+        if (blogPost.getStatus() == PostStatus.SCHEDULED && blogPost.getPublishAt() == null) {
+            throw new BadRequestAlertException("A scheduled blogPost needs a publish date", ENTITY_NAME, "publishatnull");
+        }
+    }
+
+    private void scheduleIfNeeded(BlogPost blogPost) {
+        if (blogPost.getStatus() == PostStatus.SCHEDULED) {
+            blogPostPublisher.scheduleChanged();
+        }
+    }
+
+    private <T> ResponseEntity<List<T>> page(Pageable pageable, Class<T> type) {
+        Page<T> page = blogPostRepository.findAllByStatusIn(readableStatuses(), pageable, type);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    private <T> ResponseEntity<List<T>> sliceAfterCursor(String cursor, int size, Class<T> type, Function<T, Long> idExtractor) {
+        Optional<Long> afterId;
+        try {
+            afterId = KeysetPaginationUtil.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+        }
+        int boundedSize = KeysetPaginationUtil.boundedSize(size);
+        // read one extra row to know whether a next slice exists without counting
+        Limit limit = Limit.of(boundedSize + 1);
+        Collection<PostStatus> statuses = readableStatuses();
+        List<T> slice = afterId
+            .map(id -> blogPostRepository.findAllByStatusInAndIdGreaterThanOrderByIdAsc(statuses, id, limit, type))
+            .orElseGet(() -> blogPostRepository.findAllByStatusInOrderByIdAsc(statuses, limit, type));
+
+        String nextCursor = null;
+        if (slice.size() > boundedSize) {
+            slice = slice.subList(0, boundedSize);
+            nextCursor = KeysetPaginationUtil.encodeCursor(idExtractor.apply(slice.get(boundedSize - 1)));
+        }
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            nextCursor,
+            boundedSize
+        );
+        return ResponseEntity.ok().headers(headers).body(slice);
+    }
+
+    /**
+     * {@code GET  /blog-posts/mine} : get the blogPosts of the current user, whatever their status, with their category and
+     * author.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of blogPosts in body.
+     */
+    @GetMapping("/mine")
+    public List<BlogPostDTO> getBlogPostsOfCurrentUser() {
+        LOG.debug("REST request to get the BlogPosts of the current user");
+        return blogPostService.findAllOfCurrentUser();
+    }
+
+    /**
+     * {@code GET  /blog-posts/popular} : get the most read blogPosts.
+     *
+     * @param size the maximum number of blogPosts.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the most read blogPosts in body, most read first.
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularBlogPost>> getPopularBlogPosts(@RequestParam(name = "size", defaultValue = "10") int size) {
+        LOG.debug("REST request to get the most read BlogPosts");
+        return ResponseEntity.ok(blogPostViewCounter.findMostRead(size));
+    }
+
+    /**
+     * {@code GET  /blog-posts/:id} : get the "id" blogPost, counting a view of it.
+     * <p>
+     * Only the published blogPosts are cached and counted. The drafts and scheduled blogPosts are only shown to the admins
+     * and to their author.
      *
      * @param id the id of the blogPost to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the blogPost, or with status {@code 404 (Not Found)}.
+     * @param acceptEncoding the encodings accepted by the client; the cached body is sent gzipped if gzip is one of them.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the blogPost,
+     * or with status {@code 304 (Not Modified)} if the blogPost still matches the {@code If-None-Match} header,
+     * or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<BlogPost> getBlogPost(@PathVariable("id") Long id) {
+    public ResponseEntity<byte[]> getBlogPost(
+        @PathVariable("id") Long id,
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
         LOG.debug("REST request to get BlogPost : {}", id);
-        Optional<BlogPost> blogPost = blogPostRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(blogPost);
+        Optional<RenderedContent> content = renderedContentCache.get(
+            RenderedContentCache.BLOG_POSTS_CACHE,
+            id,
+            publishedId -> blogPostRepository.findById(publishedId).filter(blogPost -> blogPost.getStatus() == PostStatus.PUBLISHED),
+            BlogPost::getVersion
+        );
+        if (content.isPresent()) {
+            blogPostViewCounter.recordView(id);
+        } else {
+            content = blogPostRepository
+                .findById(id)
+                .filter(blogPost -> canRead(blogPost.getStatus(), blogPost.getAuthor() == null ? null : blogPost.getAuthor().getLogin()))
+                .map(blogPost -> renderedContentCache.render(blogPost, BlogPost::getVersion));
+        }
+        return RenderedContentResponseUtil.wrapOrNotFound(content, acceptEncoding);
+    }
+
+    /**
+     * {@code GET  /blog-posts/:id?view=full} : get the "id" blogPost, with its category and author.
+     *
+     * @param id the id of the blogPost to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the blogPost, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping(value = "/{id}", params = "view=full")
+    public ResponseEntity<BlogPostDTO> getBlogPostWithRelationships(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get BlogPost with relationships : {}", id);
+        return ResponseUtil.wrapOrNotFound(
+            blogPostService
+                .findOneWithRelationships(id)
+                .filter(blogPost -> canRead(blogPost.getStatus(), blogPost.getAuthor() == null ? null : blogPost.getAuthor().getLogin()))
+        );
+    }
+
+    /**
+     * {@code GET  /blog-posts/:id/revisions} : get the revisions of the "id" blogPost, newest first.
+     *
+     * @param id the id of the blogPost.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of revisions in body,
+     * or with status {@code 404 (Not Found)} if the blogPost does not exist or is not readable by the current user.
+     */
+    @GetMapping("/{id}/revisions")
+    public ResponseEntity<List<ContentRevisionSummary>> getBlogPostRevisions(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get the revisions of BlogPost : {}", id);
+        return ResponseUtil.wrapOrNotFound(
+            findReadable(id).map(blogPost -> contentRevisionService.findAll(RevisionEntityType.BLOG_POST, blogPost.getId()))
+        );
+    }
+
+    /**
+     * {@code GET  /blog-posts/:id/revisions/diff?from=:from&to=:to} : get the changes of the content of the "id" blogPost
+     * between two revisions, as a unified diff.
+     *
+     * @param id the id of the blogPost.
+     * @param from the older revision, the one before {@code to} by default; {@code 0} is the empty content before the first one.
+     * @param to the newer revision.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the diff,
+     * or with status {@code 404 (Not Found)} if a revision does not exist, or the blogPost is not readable by the current user.
+     */
+    @GetMapping(value = "/{id}/revisions/diff", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> getBlogPostRevisionDiff(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "from", required = false) Integer from,
+        @RequestParam(name = "to") int to
+    ) {
+        LOG.debug("REST request to get the diff of BlogPost : {} from revision {} to {}", id, from, to);
+        return ResponseUtil.wrapOrNotFound(
+            findReadable(id).flatMap(blogPost ->
+                contentRevisionService.diff(RevisionEntityType.BLOG_POST, blogPost.getId(), Objects.requireNonNullElse(from, to - 1), to)
+            )
+        );
     }
 
     /**
@@ -174,6 +479,8 @@ public class BlogPostResource {
     public ResponseEntity<Void> deleteBlogPost(@PathVariable("id") Long id) {
         LOG.debug("REST request to delete BlogPost : {}", id);
         blogPostRepository.deleteById(id);
+        contentRevisionService.deleteAll(RevisionEntityType.BLOG_POST, id);
+        renderedContentCache.evict(RenderedContentCache.BLOG_POSTS_CACHE, id);
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
@@ -0,0 +1,34 @@
+package at.alpscraft.web.rest;
+
+import at.alpscraft.service.LayoutService;
+import at.alpscraft.service.dto.LayoutDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the page layout.
+ */
+@RestController
+@RequestMapping("/api")
+public class LayoutResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LayoutResource.class);
+
+    private final LayoutService layoutService;
+
+    public LayoutResource(LayoutService layoutService) {
+        this.layoutService = layoutService;
+    }
+
+    /**
+     * {@code GET  /layout} : get all the uiSections with their elements, grouped by section type.
+     *
+     * @return the layout.
+     */
+    @GetMapping("/layout")
+    public LayoutDTO getLayout() {
+        LOG.debug("REST request to get the layout");
+        return layoutService.getLayout();
+    }
+}
@@ -0,0 +1,38 @@
+package at.alpscraft.web.rest;
+
+import at.alpscraft.service.TokenRevocationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for logging out, i.e. revoking the token of the current request.
+ */
+@RestController
+@RequestMapping("/api")
+public class LogoutResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LogoutResource.class);
+
+    private final TokenRevocationService tokenRevocationService;
+
+    public LogoutResource(TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    /**
+     * {@code POST  /logout} : revoke the token of the current request, until its expiry.
+     *
+     * @param jwt the token of the current request.
+     * @return the {@link ResponseEntity} with status {@code 204 (No Content)}.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal Jwt jwt) {
+        LOG.debug("REST request to logout {}", jwt.getSubject());
+        tokenRevocationService.revoke(jwt.getTokenValue(), jwt.getId(), jwt.getExpiresAt());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,89 @@
+package at.alpscraft.web.rest;
+
+import at.alpscraft.repository.BlogPostRepository;
+import at.alpscraft.repository.BlogPostSummary;
+import at.alpscraft.repository.StaticPageRepository;
+import at.alpscraft.repository.StaticPageSummary;
+import at.alpscraft.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.PaginationUtil;
+
+/**
+ * REST controller for the full-text search over {@link at.alpscraft.domain.BlogPost}s and {@link at.alpscraft.domain.StaticPage}s.
+ * <p>
+ * Results are summaries ordered by relevance, the title weighing more than the content.
+ */
+@RestController
+@RequestMapping("/api/_search")
+@Transactional(readOnly = true)
+public class SearchResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchResource.class);
+
+    private static final String ENTITY_NAME = "search";
+
+    private static final int MAX_QUERY_LENGTH = 256;
+
+    private final BlogPostRepository blogPostRepository;
+
+    private final StaticPageRepository staticPageRepository;
+
+    public SearchResource(BlogPostRepository blogPostRepository, StaticPageRepository staticPageRepository) {
+        this.blogPostRepository = blogPostRepository;
+        this.staticPageRepository = staticPageRepository;
+    }
+
+    /**
+     * {@code GET  /_search/blog-posts?query=:query} : search the blogPosts by title and content.
+     *
+     * @param query the query, in the web search syntax: words, quoted phrases, {@code or} and {@code -word}.
+     * @param pageable the pagination information; any sort is ignored, results are ordered by relevance.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of matching blogPost summaries in body,
+     * or with status {@code 400 (Bad Request)} if the query is blank or too long.
+     */
+    @GetMapping("/blog-posts")
+    public ResponseEntity<List<BlogPostSummary>> searchBlogPosts(
+        @RequestParam("query") String query,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search BlogPosts for query : {}", query);
+        return search(query, pageable, blogPostRepository::search);
+    }
+
+    /**
+     * {@code GET  /_search/static-pages?query=:query} : search the staticPages by title and content.
+     *
+     * @param query the query, in the web search syntax: words, quoted phrases, {@code or} and {@code -word}.
+     * @param pageable the pagination information; any sort is ignored, results are ordered by relevance.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of matching staticPage summaries in body,
+     * or with status {@code 400 (Bad Request)} if the query is blank or too long.
+     */
+    @GetMapping("/static-pages")
+    public ResponseEntity<List<StaticPageSummary>> searchStaticPages(
+        @RequestParam("query") String query,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search StaticPages for query : {}", query);
+        return search(query, pageable, staticPageRepository::search);
+    }
+
+    private <T> ResponseEntity<List<T>> search(String query, Pageable pageable, BiFunction<String, Pageable, Page<T>> search) {
+        if (query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestAlertException("Invalid search query", ENTITY_NAME, "queryinvalid");
+        }
+        Page<T> page = search.apply(query.strip(), PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+}
@@ -1,8 +1,15 @@
 package at.alpscraft.web.rest;
 
 import at.alpscraft.domain.StaticPage;
+import at.alpscraft.domain.enumeration.RevisionEntityType;
+import at.alpscraft.repository.ContentRevisionSummary;
 import at.alpscraft.repository.StaticPageRepository;
+import at.alpscraft.repository.StaticPageSummary;
+import at.alpscraft.service.ContentRevisionService;
+import at.alpscraft.service.RenderedContentCache;
+import at.alpscraft.service.StaticPageService;
 import at.alpscraft.web.rest.errors.BadRequestAlertException;
+import at.alpscraft.web.rest.util.RenderedContentResponseUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -13,6 +20,8 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
@@ -36,8 +45,22 @@ public class StaticPageResource {
 
     private final StaticPageRepository staticPageRepository;
 
-    public StaticPageResource(StaticPageRepository staticPageRepository) {
+    private final StaticPageService staticPageService;
+
+    private final RenderedContentCache renderedContentCache;
+
+    private final ContentRevisionService contentRevisionService;
+
+    public StaticPageResource(
+        StaticPageRepository staticPageRepository,
+        StaticPageService staticPageService,
+        RenderedContentCache renderedContentCache,
+        ContentRevisionService contentRevisionService
+    ) {
         this.staticPageRepository = staticPageRepository;
+        this.staticPageService = staticPageService;
+        this.renderedContentCache = renderedContentCache;
+        this.contentRevisionService = contentRevisionService;
     }
 
     /**
@@ -53,7 +76,7 @@ public class StaticPageResource {
         if (staticPage.getId() != null) {
             throw new BadRequestAlertException("A new staticPage cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        staticPage = staticPageRepository.save(staticPage);
+        staticPage = staticPageService.save(staticPage);
         return ResponseEntity.created(new URI("/api/static-pages/" + staticPage.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, staticPage.getId().toString()))
             .body(staticPage);
@@ -66,6 +89,7 @@ public class StaticPageResource {
      * @param staticPage the staticPage to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated staticPage,
      * or with status {@code 400 (Bad Request)} if the staticPage is not valid,
+     * or with status {@code 409 (Conflict)} if the staticPage was updated since its version was read,
      * or with status {@code 500 (Internal Server Error)} if the staticPage couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -81,12 +105,16 @@ public class StaticPageResource {
         if (!Objects.equals(id, staticPage.getId())) {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
+        if (staticPage.getVersion() == null) {
+            throw new BadRequestAlertException("Invalid version", ENTITY_NAME, "versionnull");
+        }
 
         if (!staticPageRepository.existsById(id)) {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        staticPage = staticPageRepository.save(staticPage);
+        staticPage = staticPageService.save(staticPage);
+        renderedContentCache.evict(RenderedContentCache.STATIC_PAGES_CACHE, id);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, staticPage.getId().toString()))
             .body(staticPage);
@@ -132,7 +160,8 @@ public class StaticPageResource {
 
                 return existingStaticPage;
             })
-            .map(staticPageRepository::save);
+            .map(staticPageService::save);
+        renderedContentCache.evict(RenderedContentCache.STATIC_PAGES_CACHE, id);
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -151,17 +180,69 @@ public class StaticPageResource {
         return staticPageRepository.findAll();
     }
 
+    /**
+     * {@code GET  /static-pages?view=summary} : get all the staticPages, without their content.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of staticPage summaries in body.
+     */
+    @GetMapping(value = "", params = "view=summary")
+    public List<StaticPageSummary> getAllStaticPageSummaries() {
+        LOG.debug("REST request to get all StaticPage summaries");
+        return staticPageRepository.findAllBy(StaticPageSummary.class);
+    }
+
     /**
      * {@code GET  /static-pages/:id} : get the "id" staticPage.
      *
      * @param id the id of the staticPage to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the staticPage, or with status {@code 404 (Not Found)}.
+     * @param acceptEncoding the encodings accepted by the client; the cached body is sent gzipped if gzip is one of them.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the staticPage,
+     * or with status {@code 304 (Not Modified)} if the staticPage still matches the {@code If-None-Match} header,
+     * or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<StaticPage> getStaticPage(@PathVariable("id") Long id) {
+    public ResponseEntity<byte[]> getStaticPage(
+        @PathVariable("id") Long id,
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
         LOG.debug("REST request to get StaticPage : {}", id);
-        Optional<StaticPage> staticPage = staticPageRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(staticPage);
+        return RenderedContentResponseUtil.wrapOrNotFound(
+            renderedContentCache.get(RenderedContentCache.STATIC_PAGES_CACHE, id, staticPageRepository::findById, StaticPage::getVersion),
+            acceptEncoding
+        );
+    }
+
+    /**
+     * {@code GET  /static-pages/:id/revisions} : get the revisions of the "id" staticPage, newest first.
+     *
+     * @param id the id of the staticPage.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of revisions in body.
+     */
+    @GetMapping("/{id}/revisions")
+    public List<ContentRevisionSummary> getStaticPageRevisions(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get the revisions of StaticPage : {}", id);
+        return contentRevisionService.findAll(RevisionEntityType.STATIC_PAGE, id);
+    }
+
+    /**
+     * {@code GET  /static-pages/:id/revisions/diff?from=:from&to=:to} : get the changes of the content of the "id" staticPage
+     * between two revisions, as a unified diff.
+     *
+     * @param id the id of the staticPage.
+     * @param from the older revision, the one before {@code to} by default; {@code 0} is the empty content before the first one.
+     * @param to the newer revision.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the diff, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping(value = "/{id}/revisions/diff", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> getStaticPageRevisionDiff(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "from", required = false) Integer from,
+        @RequestParam(name = "to") int to
+    ) {
+        LOG.debug("REST request to get the diff of StaticPage : {} from revision {} to {}", id, from, to);
+        return ResponseUtil.wrapOrNotFound(
+            contentRevisionService.diff(RevisionEntityType.STATIC_PAGE, id, Objects.requireNonNullElse(from, to - 1), to)
+        );
     }
 
     /**
@@ -174,6 +255,8 @@ public class StaticPageResource {
     public ResponseEntity<Void> deleteStaticPage(@PathVariable("id") Long id) {
         LOG.debug("REST request to delete StaticPage : {}", id);
         staticPageRepository.deleteById(id);
+        contentRevisionService.deleteAll(RevisionEntityType.STATIC_PAGE, id);
+        renderedContentCache.evict(RenderedContentCache.STATIC_PAGES_CACHE, id);
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
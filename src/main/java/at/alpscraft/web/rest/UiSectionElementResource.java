@@ -2,7 +2,10 @@ package at.alpscraft.web.rest;
 
 import at.alpscraft.domain.UiSectionElement;
 import at.alpscraft.repository.UiSectionElementRepository;
+import at.alpscraft.repository.UiSectionElementSummary;
+import at.alpscraft.service.LayoutService;
 import at.alpscraft.web.rest.errors.BadRequestAlertException;
+import at.alpscraft.web.rest.util.ETagUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -36,8 +39,11 @@ public class UiSectionElementResource {
 
     private final UiSectionElementRepository uiSectionElementRepository;
 
-    public UiSectionElementResource(UiSectionElementRepository uiSectionElementRepository) {
+    private final LayoutService layoutService;
+
+    public UiSectionElementResource(UiSectionElementRepository uiSectionElementRepository, LayoutService layoutService) {
         this.uiSectionElementRepository = uiSectionElementRepository;
+        this.layoutService = layoutService;
     }
 
     /**
@@ -55,6 +61,7 @@ public class UiSectionElementResource {
             throw new BadRequestAlertException("A new uiSectionElement cannot already have an ID", ENTITY_NAME, "idexists");
         }
         uiSectionElement = uiSectionElementRepository.save(uiSectionElement);
+        layoutService.invalidate();
         return ResponseEntity.created(new URI("/api/ui-section-elements/" + uiSectionElement.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, uiSectionElement.getId().toString()))
             .body(uiSectionElement);
@@ -67,6 +74,7 @@ public class UiSectionElementResource {
      * @param uiSectionElement the uiSectionElement to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated uiSectionElement,
      * or with status {@code 400 (Bad Request)} if the uiSectionElement is not valid,
+     * or with status {@code 409 (Conflict)} if the uiSectionElement was updated since its version was read,
      * or with status {@code 500 (Internal Server Error)} if the uiSectionElement couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -82,12 +90,16 @@ public class UiSectionElementResource {
         if (!Objects.equals(id, uiSectionElement.getId())) {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
+        if (uiSectionElement.getVersion() == null) {
+            throw new BadRequestAlertException("Invalid version", ENTITY_NAME, "versionnull");
+        }
 
         if (!uiSectionElementRepository.existsById(id)) {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
         uiSectionElement = uiSectionElementRepository.save(uiSectionElement);
+        layoutService.invalidate();
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, uiSectionElement.getId().toString()))
             .body(uiSectionElement);
@@ -134,6 +146,7 @@ public class UiSectionElementResource {
                 return existingUiSectionElement;
             })
             .map(uiSectionElementRepository::save);
+        layoutService.invalidate();
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -152,17 +165,30 @@ public class UiSectionElementResource {
         return uiSectionElementRepository.findAll();
     }
 
+    /**
+     * {@code GET  /ui-section-elements?view=summary} : get all the uiSectionElements, without their content.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of uiSectionElement summaries in body.
+     */
+    @GetMapping(value = "", params = "view=summary")
+    public List<UiSectionElementSummary> getAllUiSectionElementSummaries() {
+        LOG.debug("REST request to get all UiSectionElement summaries");
+        return uiSectionElementRepository.findAllSummaries();
+    }
+
     /**
      * {@code GET  /ui-section-elements/:id} : get the "id" uiSectionElement.
      *
      * @param id the id of the uiSectionElement to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the uiSectionElement, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the uiSectionElement,
+     * or with status {@code 304 (Not Modified)} if the uiSectionElement still matches the {@code If-None-Match} header,
+     * or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
     public ResponseEntity<UiSectionElement> getUiSectionElement(@PathVariable("id") Long id) {
         LOG.debug("REST request to get UiSectionElement : {}", id);
         Optional<UiSectionElement> uiSectionElement = uiSectionElementRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(uiSectionElement);
+        return ETagUtil.wrapOrNotFound(uiSectionElement, UiSectionElement::getVersion);
     }
 
     /**
@@ -175,6 +201,7 @@ public class UiSectionElementResource {
     public ResponseEntity<Void> deleteUiSectionElement(@PathVariable("id") Long id) {
         LOG.debug("REST request to delete UiSectionElement : {}", id);
         uiSectionElementRepository.deleteById(id);
+        layoutService.invalidate();
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
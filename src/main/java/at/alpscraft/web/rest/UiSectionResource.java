@@ -2,7 +2,10 @@ package at.alpscraft.web.rest;
 
 import at.alpscraft.domain.UiSection;
 import at.alpscraft.repository.UiSectionRepository;
+import at.alpscraft.repository.UiSectionSummary;
+import at.alpscraft.service.LayoutService;
 import at.alpscraft.web.rest.errors.BadRequestAlertException;
+import at.alpscraft.web.rest.util.ETagUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -36,8 +39,11 @@ public class UiSectionResource {
 
     private final UiSectionRepository uiSectionRepository;
 
-    public UiSectionResource(UiSectionRepository uiSectionRepository) {
+    private final LayoutService layoutService;
+
+    public UiSectionResource(UiSectionRepository uiSectionRepository, LayoutService layoutService) {
         this.uiSectionRepository = uiSectionRepository;
+        this.layoutService = layoutService;
     }
 
     /**
@@ -54,6 +60,7 @@ public class UiSectionResource {
             throw new BadRequestAlertException("A new uiSection cannot already have an ID", ENTITY_NAME, "idexists");
         }
         uiSection = uiSectionRepository.save(uiSection);
+        layoutService.invalidate();
         return ResponseEntity.created(new URI("/api/ui-sections/" + uiSection.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, uiSection.getId().toString()))
             .body(uiSection);
@@ -66,6 +73,7 @@ public class UiSectionResource {
      * @param uiSection the uiSection to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated uiSection,
      * or with status {@code 400 (Bad Request)} if the uiSection is not valid,
+     * or with status {@code 409 (Conflict)} if the uiSection was updated since its version was read,
      * or with status {@code 500 (Internal Server Error)} if the uiSection couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -81,12 +89,16 @@ public class UiSectionResource {
         if (!Objects.equals(id, uiSection.getId())) {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
+        if (uiSection.getVersion() == null) {
+            throw new BadRequestAlertException("Invalid version", ENTITY_NAME, "versionnull");
+        }
 
         if (!uiSectionRepository.existsById(id)) {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
         uiSection = uiSectionRepository.save(uiSection);
+        layoutService.invalidate();
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, uiSection.getId().toString()))
             .body(uiSection);
@@ -136,6 +148,7 @@ public class UiSectionResource {
                 return existingUiSection;
             })
             .map(uiSectionRepository::save);
+        layoutService.invalidate();
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -154,17 +167,30 @@ public class UiSectionResource {
         return uiSectionRepository.findAll();
     }
 
+    /**
+     * {@code GET  /ui-sections?view=summary} : get all the uiSections, without their content.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of uiSection summaries in body.
+     */
+    @GetMapping(value = "", params = "view=summary")
+    public List<UiSectionSummary> getAllUiSectionSummaries() {
+        LOG.debug("REST request to get all UiSection summaries");
+        return uiSectionRepository.findAllBy(UiSectionSummary.class);
+    }
+
     /**
      * {@code GET  /ui-sections/:id} : get the "id" uiSection.
      *
      * @param id the id of the uiSection to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the uiSection, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the uiSection,
+     * or with status {@code 304 (Not Modified)} if the uiSection still matches the {@code If-None-Match} header,
+     * or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
     public ResponseEntity<UiSection> getUiSection(@PathVariable("id") Long id) {
         LOG.debug("REST request to get UiSection : {}", id);
         Optional<UiSection> uiSection = uiSectionRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(uiSection);
+        return ETagUtil.wrapOrNotFound(uiSection, UiSection::getVersion);
     }
 
     /**
@@ -177,6 +203,7 @@ public class UiSectionResource {
     public ResponseEntity<Void> deleteUiSection(@PathVariable("id") Long id) {
         LOG.debug("REST request to delete UiSection : {}", id);
         uiSectionRepository.deleteById(id);
+        layoutService.invalidate();
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
@@ -2,6 +2,8 @@ package at.alpscraft.web.rest.errors;
 
 import static org.springframework.core.annotation.AnnotatedElementUtils.findMergedAnnotation;
 
+import at.alpscraft.security.LoginThrottledException;
+import at.alpscraft.security.PasswordHashingUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.util.Arrays;
@@ -47,6 +49,7 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
     private static final String MESSAGE_KEY = "message";
     private static final String PATH_KEY = "path";
     private static final boolean CASUAL_CHAIN_ENABLED = false;
+    private static final String PASSWORD_HASHING_RETRY_AFTER_SECONDS = "1";
 
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
@@ -202,6 +205,8 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
             if (err instanceof DataAccessException) return "Failure during data access";
             if (containsPackageName(err.getMessage())) return "Unexpected runtime exception";
         }
+        if (err instanceof PasswordHashingUnavailableException) return err.getMessage();
+        if (err instanceof LoginThrottledException) return err.getMessage();
         return err.getCause() != null ? err.getCause().getMessage() : err.getMessage();
     }
 
@@ -210,6 +215,8 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
         if (err instanceof AccessDeniedException) return HttpStatus.FORBIDDEN;
         if (err instanceof ConcurrencyFailureException) return HttpStatus.CONFLICT;
         if (err instanceof BadCredentialsException) return HttpStatus.UNAUTHORIZED;
+        if (err instanceof PasswordHashingUnavailableException) return HttpStatus.SERVICE_UNAVAILABLE;
+        if (err instanceof LoginThrottledException) return HttpStatus.TOO_MANY_REQUESTS;
         return null;
     }
 
@@ -219,6 +226,16 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
     }
 
     private HttpHeaders buildHeaders(Throwable err) {
+        if (err instanceof PasswordHashingUnavailableException) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, PASSWORD_HASHING_RETRY_AFTER_SECONDS);
+            return headers;
+        }
+        if (err instanceof LoginThrottledException loginThrottledException) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(loginThrottledException.getRetryAfterSeconds()));
+            return headers;
+        }
         return err instanceof BadRequestAlertException badRequestAlertException
             ? HeaderUtil.createFailureAlert(
                 applicationName,
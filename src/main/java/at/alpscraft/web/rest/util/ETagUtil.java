@@ -0,0 +1,44 @@
+package at.alpscraft.web.rest.util;
+
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Utility class for conditional GET support based on the optimistic locking version of entities.
+ * <p>
+ * A {@link ResponseEntity} carrying an {@code ETag} is answered by Spring MVC with {@code 304 (Not Modified)} and no
+ * body when it matches the {@code If-None-Match} header of a {@code GET} request. The ETag is weak, as the same
+ * version may be sent with different content encodings.
+ */
+public final class ETagUtil {
+
+    private ETagUtil() {}
+
+    /**
+     * Build the ETag of an entity from its version.
+     *
+     * @param version the version of the entity.
+     * @return the weak ETag.
+     */
+    public static String versionETag(Integer version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * Wrap the entity into a {@link ResponseEntity} with status {@code 200 (OK)} and its version as ETag, or fail
+     * with {@code 404 (Not Found)} if it is empty.
+     *
+     * @param maybeResponse the entity to send.
+     * @param versionExtractor the function reading the version of the entity.
+     * @param <X> the type of the entity.
+     * @return the response.
+     */
+    public static <X> ResponseEntity<X> wrapOrNotFound(Optional<X> maybeResponse, Function<X, Integer> versionExtractor) {
+        return maybeResponse
+            .map(response -> ResponseEntity.ok().eTag(versionETag(versionExtractor.apply(response))).body(response))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+}
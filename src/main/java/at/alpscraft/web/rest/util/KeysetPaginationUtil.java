@@ -0,0 +1,87 @@
+package at.alpscraft.web.rest.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for handling keyset (seek) pagination.
+ * <p>
+ * A cursor is an opaque token carrying the last id of the previous slice, so the next slice is read with an
+ * indexed {@code id > ?} predicate instead of an {@code OFFSET}: deep slices cost the same as the first one.
+ * Unlike {@link tech.jhipster.web.util.PaginationUtil}, no {@code X-Total-Count} is computed.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String CURSOR_PARAM = "cursor";
+
+    public static final String SIZE_PARAM = "size";
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static final int DEFAULT_SIZE = 20;
+
+    public static final int MAX_SIZE = 2000;
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * Encode the id of the last element of a slice as an opaque cursor.
+     *
+     * @param id the id of the last element returned.
+     * @return the cursor pointing right after that element.
+     */
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously built by {@link #encodeCursor(Long)}.
+     *
+     * @param cursor the cursor sent by the client, blank to start from the first element.
+     * @return the id to seek after, or empty for the first slice.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static Optional<Long> decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Optional.empty();
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!decoded.startsWith(CURSOR_PREFIX)) {
+            throw new IllegalArgumentException("Unknown cursor format");
+        }
+        return Optional.of(Long.parseLong(decoded.substring(CURSOR_PREFIX.length())));
+    }
+
+    /**
+     * Clamp the requested slice size to {@code [1, MAX_SIZE]}.
+     *
+     * @param size the requested size.
+     * @return the size to use.
+     */
+    public static int boundedSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * Generate keyset pagination headers: {@code X-Next-Cursor} and a {@code next} {@code Link}, only when a next slice exists.
+     *
+     * @param uriBuilder the current request uri.
+     * @param nextCursor the cursor of the next slice, {@code null} on the last slice.
+     * @param size the slice size.
+     * @return the http headers.
+     */
+    public static HttpHeaders generateKeysetPaginationHttpHeaders(UriComponentsBuilder uriBuilder, String nextCursor, int size) {
+        HttpHeaders headers = new HttpHeaders();
+        if (nextCursor != null) {
+            headers.add(NEXT_CURSOR_HEADER, nextCursor);
+            String next = uriBuilder.replaceQueryParam(CURSOR_PARAM, nextCursor).replaceQueryParam(SIZE_PARAM, size).toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+}
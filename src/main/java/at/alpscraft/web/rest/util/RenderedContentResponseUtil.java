@@ -0,0 +1,58 @@
+package at.alpscraft.web.rest.util;
+
+import at.alpscraft.service.RenderedContent;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Utility class for writing a {@link RenderedContent} to the client.
+ * <p>
+ * The cached gzipped body is sent as is to clients accepting gzip, and decompressed for the others. The version of
+ * the rendered entity is sent as ETag, see {@link ETagUtil}.
+ */
+public final class RenderedContentResponseUtil {
+
+    private static final String GZIP = "gzip";
+
+    private RenderedContentResponseUtil() {}
+
+    /**
+     * Wrap the rendered content into a {@link ResponseEntity} with status {@code 200 (OK)}, or fail with
+     * {@code 404 (Not Found)} if it is empty, like {@link tech.jhipster.web.util.ResponseUtil#wrapOrNotFound(Optional)}.
+     *
+     * @param renderedContent the rendered content to send.
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request, may be {@code null}.
+     * @return the response.
+     */
+    public static ResponseEntity<byte[]> wrapOrNotFound(Optional<RenderedContent> renderedContent, String acceptEncoding) {
+        return renderedContent
+            .map(content -> {
+                ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(ETagUtil.versionETag(content.getVersion()))
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                if (acceptsGzip(acceptEncoding)) {
+                    return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(content.getGzippedBody());
+                }
+                return builder.body(content.getBody());
+            })
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim()) || "*".equals(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
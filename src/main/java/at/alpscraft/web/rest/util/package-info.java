@@ -0,0 +1,4 @@
+/**
+ * Rest layer utilities.
+ */
+package at.alpscraft.web.rest.util;
@@ -1,9 +1,10 @@
 import React, { useEffect } from 'react';
 import { Link, useParams } from 'react-router-dom';
 import { Button, Col, Row } from 'reactstrap';
-import { Translate } from 'react-jhipster';
+import { TextFormat, Translate } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
+import { APP_DATE_FORMAT } from 'app/config/constants';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { getEntity } from './blog-post.reducer';
@@ -43,6 +44,18 @@ export const BlogPostDetail = () => {
             </span>
           </dt>
           <dd>{blogPostEntity.content}</dd>
+          <dt>
+            <span id="status">
+              <Translate contentKey="alpscraftCmsApp.blogPost.status">Status</Translate>
+            </span>
+          </dt>
+          <dd>{blogPostEntity.status}</dd>
+          <dt>
+            <span id="publishAt">
+              <Translate contentKey="alpscraftCmsApp.blogPost.publishAt">Publish At</Translate>
+            </span>
+          </dt>
+          <dd>{blogPostEntity.publishAt ? <TextFormat value={blogPostEntity.publishAt} type="date" format={APP_DATE_FORMAT} /> : null}</dd>
           <dt>
             <Translate contentKey="alpscraftCmsApp.blogPost.category">Category</Translate>
           </dt>
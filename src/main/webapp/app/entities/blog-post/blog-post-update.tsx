@@ -4,10 +4,12 @@ import { Button, Col, Row } from 'reactstrap';
 import { Translate, ValidatedField, ValidatedForm, translate } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
+import { convertDateTimeFromServer, convertDateTimeToServer } from 'app/shared/util/date-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { getEntities as getPostCategories } from 'app/entities/post-category/post-category.reducer';
 import { getUsers } from 'app/modules/administration/user-management/user-management.reducer';
+import { PostStatus } from 'app/shared/model/enumerations/post-status.model';
 import { createEntity, getEntity, reset, updateEntity } from './blog-post.reducer';
 
 export const BlogPostUpdate = () => {
@@ -24,6 +26,7 @@ export const BlogPostUpdate = () => {
   const loading = useAppSelector(state => state.blogPost.loading);
   const updating = useAppSelector(state => state.blogPost.updating);
   const updateSuccess = useAppSelector(state => state.blogPost.updateSuccess);
+  const postStatusValues = Object.keys(PostStatus);
 
   const handleClose = () => {
     navigate('/blog-post');
@@ -50,6 +53,7 @@ export const BlogPostUpdate = () => {
     if (values.id !== undefined && typeof values.id !== 'number') {
       values.id = Number(values.id);
     }
+    values.publishAt = convertDateTimeToServer(values.publishAt);
 
     const entity = {
       ...blogPostEntity,
@@ -67,9 +71,13 @@ export const BlogPostUpdate = () => {
 
   const defaultValues = () =>
     isNew
-      ? {}
+      ? {
+          status: 'PUBLISHED',
+        }
       : {
+          status: 'PUBLISHED',
           ...blogPostEntity,
+          publishAt: convertDateTimeFromServer(blogPostEntity.publishAt),
           category: blogPostEntity?.category?.id,
           author: blogPostEntity?.author?.id,
         };
@@ -119,6 +127,27 @@ export const BlogPostUpdate = () => {
                   required: { value: true, message: translate('entity.validation.required') },
                 }}
               />
+              <ValidatedField
+                label={translate('alpscraftCmsApp.blogPost.status')}
+                id="blog-post-status"
+                name="status"
+                data-cy="status"
+                type="select"
+              >
+                {postStatusValues.map(postStatus => (
+                  <option value={postStatus} key={postStatus}>
+                    {translate(`alpscraftCmsApp.PostStatus.${postStatus}`)}
+                  </option>
+                ))}
+              </ValidatedField>
+              <ValidatedField
+                label={translate('alpscraftCmsApp.blogPost.publishAt')}
+                id="blog-post-publishAt"
+                name="publishAt"
+                data-cy="publishAt"
+                type="datetime-local"
+                placeholder="YYYY-MM-DD HH:mm"
+              />
               <ValidatedField
                 id="blog-post-category"
                 name="category"
@@ -1,12 +1,17 @@
+import dayjs from 'dayjs';
 import { IPostCategory } from 'app/shared/model/post-category.model';
 import { IUser } from 'app/shared/model/user.model';
+import { PostStatus } from 'app/shared/model/enumerations/post-status.model';
 
 export interface IBlogPost {
   id?: number;
   title?: string;
   content?: string;
+  status?: keyof typeof PostStatus;
+  publishAt?: dayjs.Dayjs | null;
   category?: IPostCategory | null;
   author?: IUser | null;
+  version?: number;
 }
 
 export const defaultValue: Readonly<IBlogPost> = {};
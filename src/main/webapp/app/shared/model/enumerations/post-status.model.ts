@@ -0,0 +1,7 @@
+export enum PostStatus {
+  DRAFT = 'DRAFT',
+
+  SCHEDULED = 'SCHEDULED',
+
+  PUBLISHED = 'PUBLISHED',
+}
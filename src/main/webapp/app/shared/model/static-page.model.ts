@@ -5,6 +5,7 @@ export interface IStaticPage {
   title?: string;
   content?: string;
   author?: IUser | null;
+  version?: number;
 }
 
 export const defaultValue: Readonly<IStaticPage> = {};
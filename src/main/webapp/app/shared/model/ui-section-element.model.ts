@@ -6,6 +6,7 @@ export interface IUiSectionElement {
   title?: keyof typeof SectionType;
   content?: string;
   uiSection?: IUiSection | null;
+  version?: number;
 }
 
 export const defaultValue: Readonly<IUiSectionElement> = {};
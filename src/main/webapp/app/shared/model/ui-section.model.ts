@@ -5,6 +5,7 @@ export interface IUiSection {
   title?: keyof typeof SectionType;
   cssClass?: string | null;
   content?: string;
+  version?: number;
 }
 
 export const defaultValue: Readonly<IUiSection> = {};
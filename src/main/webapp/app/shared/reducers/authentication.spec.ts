@@ -224,5 +224,16 @@ describe('Authentication reducer tests', () => {
       expect(Storage.session.get(AUTH_TOKEN_KEY)).toBe(undefined);
       expect(Storage.local.get(AUTH_TOKEN_KEY)).toBe(undefined);
     });
+    it('revokes the token on logout', async () => {
+      const AUTH_TOKEN_KEY = 'jhi-authenticationToken';
+      Storage.session.set(AUTH_TOKEN_KEY, 'TestToken');
+      axios.post = sinon.stub().returns(Promise.resolve({}));
+
+      await store.dispatch(logout());
+      expect((axios.post as sinon.SinonStub).calledWith('api/logout', null, { headers: { Authorization: 'Bearer TestToken' } })).toBe(
+        true,
+      );
+      expect(Storage.session.get(AUTH_TOKEN_KEY)).toBe(undefined);
+    });
   });
 });
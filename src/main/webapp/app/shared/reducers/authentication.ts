@@ -80,6 +80,11 @@ export const clearAuthToken = () => {
 };
 
 export const logout: () => AppThunk = () => dispatch => {
+  const token = Storage.local.get(AUTH_TOKEN_KEY) || Storage.session.get(AUTH_TOKEN_KEY);
+  if (token) {
+    // revoke the token on the server, passed explicitly as it is cleared before the request is sent
+    axios.post('api/logout', null, { headers: { Authorization: `Bearer ${token}` } }).catch(() => undefined);
+  }
   clearAuthToken();
   dispatch(logoutSession());
 };
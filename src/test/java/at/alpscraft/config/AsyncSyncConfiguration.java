@@ -12,4 +12,19 @@ public class AsyncSyncConfiguration {
     public Executor taskExecutor() {
         return new SyncTaskExecutor();
     }
+
+    @Bean(name = "mailExecutor")
+    public Executor mailExecutor() {
+        return new SyncTaskExecutor();
+    }
+
+    @Bean(name = "cacheWarmupExecutor")
+    public Executor cacheWarmupExecutor() {
+        return new SyncTaskExecutor();
+    }
+
+    @Bean(name = "maintenanceExecutor")
+    public Executor maintenanceExecutor() {
+        return new SyncTaskExecutor();
+    }
 }
@@ -0,0 +1,66 @@
+package at.alpscraft.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link BoundedDataSource} class.
+ */
+class BoundedDataSourceTest {
+
+    private DataSource targetDataSource;
+
+    private Connection targetConnection;
+
+    private BoundedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        targetConnection = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource = new BoundedDataSource(targetDataSource, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void shouldTimeOutWhileAllConnectionsAreHeld() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        connection.close();
+        verify(targetConnection).close();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void shouldReleaseThePermitOnlyOnce() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        Connection other = dataSource.getConnection();
+
+        assertThat(other).isNotEqualTo(connection);
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void shouldReleaseThePermitWhenTheTargetFails() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("down")).thenReturn(targetConnection);
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("down");
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+}
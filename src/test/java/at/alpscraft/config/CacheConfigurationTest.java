@@ -0,0 +1,150 @@
+package at.alpscraft.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.StaticPage;
+import at.alpscraft.security.jwt.CachingJwtDecoder;
+import at.alpscraft.security.jwt.DecodedJwtExpiry;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Unit tests for the {@link CacheConfiguration} class.
+ */
+class CacheConfigurationTest {
+
+    private static final String BLOG_POST_CACHE = BlogPost.class.getName();
+
+    private static final String STATIC_PAGE_CACHE = StaticPage.class.getName();
+
+    private JHipsterProperties jHipsterProperties;
+
+    private ApplicationProperties applicationProperties;
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void setup() {
+        jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getCache().getEhcache().setMaxEntries(100);
+        jHipsterProperties.getCache().getEhcache().setTimeToLiveSeconds(3600);
+        applicationProperties = new ApplicationProperties();
+
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        cacheManager = provider.getCacheManager(
+            URI.create("urn:" + UUID.randomUUID()),
+            new DefaultConfiguration(provider.getDefaultClassLoader())
+        );
+    }
+
+    @AfterEach
+    public void teardown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void shouldUseEhcacheDefaultsWithoutRegionSettings() {
+        customize();
+
+        ResourcePools resourcePools = resourcePools(STATIC_PAGE_CACHE);
+        assertThat(resourcePools.getResourceTypeSet()).containsExactly(ResourceType.Core.HEAP);
+        assertThat(resourcePools.getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldAddOffHeapTierFromRegionSettings() {
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setHeapEntries(10L);
+        region.setOffHeapMb(2L);
+        region.setTimeToLiveSeconds(60L);
+        applicationProperties.getCache().getRegions().put(BLOG_POST_CACHE, region);
+
+        customize();
+
+        ResourcePools resourcePools = resourcePools(BLOG_POST_CACHE);
+        SizedResourcePool heap = resourcePools.getPoolForResource(ResourceType.Core.HEAP);
+        SizedResourcePool offHeap = resourcePools.getPoolForResource(ResourceType.Core.OFFHEAP);
+        assertThat(heap.getSize()).isEqualTo(10);
+        assertThat(heap.getUnit()).isEqualTo(EntryUnit.ENTRIES);
+        assertThat(offHeap.getSize()).isEqualTo(2);
+        assertThat(offHeap.getUnit()).isEqualTo(MemoryUnit.MB);
+        // other caches keep the defaults
+        assertThat(resourcePools(STATIC_PAGE_CACHE).getResourceTypeSet()).containsExactly(ResourceType.Core.HEAP);
+
+        // values overflowing the heap tier are serialized to the off-heap tier
+        javax.cache.Cache<Object, Object> cache = cacheManager.getCache(BLOG_POST_CACHE);
+        for (long id = 0; id < 100; id++) {
+            cache.put(id, "content " + id);
+        }
+        assertThat(cache.get(1L)).isEqualTo("content 1");
+        assertThat(cache.get(99L)).isEqualTo("content 99");
+    }
+
+    @Test
+    void shouldRequireDiskPathForDiskTier() {
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setDiskMb(10L);
+        applicationProperties.getCache().getRegions().put(BLOG_POST_CACHE, region);
+
+        assertThatThrownBy(this::customize).isInstanceOf(IllegalStateException.class).hasMessageContaining(BLOG_POST_CACHE);
+    }
+
+    @Test
+    void shouldExpireDecodedTokensWithTheToken() {
+        customize();
+
+        ExpiryPolicy<Object, Object> expiry = expiryPolicy(CachingJwtDecoder.DECODED_TOKENS_CACHE);
+        assertThat(expiry).isInstanceOf(DecodedJwtExpiry.class);
+        assertThat(expiry.getExpiryForCreation("key", "value")).isEqualTo(Duration.ofHours(1));
+        assertThat(expiry.getExpiryForCreation("token", jwt(Instant.now().plusSeconds(7200)))).isEqualTo(Duration.ofHours(1));
+        assertThat(expiry.getExpiryForCreation("token", jwt(Instant.now().plusSeconds(600))))
+            .isLessThanOrEqualTo(Duration.ofSeconds(600))
+            .isGreaterThan(Duration.ofSeconds(590));
+        assertThat(expiry.getExpiryForCreation("token", jwt(Instant.now().minusSeconds(10)))).isEqualTo(Duration.ZERO);
+        // other caches only apply their time to live
+        assertThat(expiryPolicy(STATIC_PAGE_CACHE).getExpiryForCreation("token", jwt(Instant.now().plusSeconds(600)))).isEqualTo(
+            Duration.ofHours(1)
+        );
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue("token").header("alg", "HS512").expiresAt(expiresAt).build();
+    }
+
+    private void customize() {
+        new CacheConfiguration(jHipsterProperties, applicationProperties).cacheManagerCustomizer().customize(cacheManager);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResourcePools resourcePools(String cacheName) {
+        return cacheManager.getCache(cacheName).unwrap(org.ehcache.Cache.class).getRuntimeConfiguration().getResourcePools();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ExpiryPolicy<Object, Object> expiryPolicy(String cacheName) {
+        return (ExpiryPolicy<Object, Object>) cacheManager
+            .getCache(cacheName)
+            .unwrap(org.ehcache.Cache.class)
+            .getRuntimeConfiguration()
+            .getExpiryPolicy();
+    }
+}
@@ -48,7 +48,9 @@ public class BlogPostAsserts {
         assertThat(actual)
             .as("Verify BlogPost relevant properties")
             .satisfies(a -> assertThat(a.getTitle()).as("check title").isEqualTo(expected.getTitle()))
-            .satisfies(a -> assertThat(a.getContent()).as("check content").isEqualTo(expected.getContent()));
+            .satisfies(a -> assertThat(a.getContent()).as("check content").isEqualTo(expected.getContent()))
+            .satisfies(a -> assertThat(a.getStatus()).as("check status").isEqualTo(expected.getStatus()))
+            .satisfies(a -> assertThat(a.getPublishAt()).as("check publishAt").isEqualTo(expected.getPublishAt()));
     }
 
     /**
@@ -0,0 +1,116 @@
+package at.alpscraft.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Test class for the {@link BoundedPasswordEncoder} class.
+ */
+class BoundedPasswordEncoderTest {
+
+    private MeterRegistry meterRegistry;
+
+    private CountDownLatch started;
+
+    private CountDownLatch release;
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        release.countDown();
+        boundedPasswordEncoder.close();
+    }
+
+    @Test
+    void testHashingIsDelegatedAndTimed() {
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new ReversingPasswordEncoder(), 1, 1, 1000, meterRegistry);
+
+        assertThat(boundedPasswordEncoder.encode("password")).isEqualTo("drowssap");
+        assertThat(boundedPasswordEncoder.matches("password", "drowssap")).isTrue();
+        assertThat(boundedPasswordEncoder.matches("password", "password")).isFalse();
+
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.HASHING_METER_NAME).tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.HASHING_METER_NAME).tag("operation", "matches").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.QUEUE_WAIT_METER_NAME).tag("operation", "matches").timer().count()).isEqualTo(
+            2
+        );
+    }
+
+    @Test
+    void testSaturatedExecutorRejectsAtOnce() throws Exception {
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, 10_000, meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("queued"));
+        while (meterRegistry.get("executor.queued").tag("name", BoundedPasswordEncoder.EXECUTOR_NAME).gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode("rejected")).isInstanceOf(PasswordHashingUnavailableException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    void testSlowHashingTimesOut() {
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, 50, meterRegistry);
+
+        assertThatThrownBy(() -> boundedPasswordEncoder.matches("password", "password")).isInstanceOf(
+            PasswordHashingUnavailableException.class
+        );
+    }
+
+    private static class ReversingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return new StringBuilder(rawPassword).reverse().toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package at.alpscraft.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link LoginAttemptLimiter} class.
+ */
+class LoginAttemptLimiterTest {
+
+    private static final String ADDRESS = "192.0.2.1";
+
+    private MutableClock clock;
+
+    private MeterRegistry meterRegistry;
+
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @BeforeEach
+    public void setup() {
+        clock = new MutableClock();
+        meterRegistry = new SimpleMeterRegistry();
+        loginAttemptLimiter = new LoginAttemptLimiter(3, 10, Duration.ofMinutes(1), meterRegistry, clock);
+    }
+
+    @Test
+    void testLoginIsThrottledAfterTooManyFailures() {
+        failLogins("user", ADDRESS, 3);
+
+        assertThatThrownBy(() -> loginAttemptLimiter.checkAllowed("USER", "192.0.2.2"))
+            .isInstanceOf(LoginThrottledException.class)
+            .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfterSeconds()).isBetween(1L, 60L));
+        assertThatCode(() -> loginAttemptLimiter.checkAllowed("other-user", "192.0.2.2")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get(LoginAttemptLimiter.THROTTLED_METER_NAME).tag("key", "login").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(LoginAttemptLimiter.FAILURES_METER_NAME).counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void testAddressIsThrottledAfterTooManyFailures() {
+        for (int i = 0; i < 10; i++) {
+            failLogins("user-" + i, ADDRESS, 1);
+        }
+
+        assertThatThrownBy(() -> loginAttemptLimiter.checkAllowed("user-11", ADDRESS)).isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> loginAttemptLimiter.checkAllowed("user-11", "192.0.2.2")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get(LoginAttemptLimiter.THROTTLED_METER_NAME).tag("key", "address").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testFailuresSlideOutOfTheWindow() {
+        failLogins("user", ADDRESS, 3);
+
+        LoginThrottledException throttled = catchThrottled("user");
+        clock.advance(Duration.ofSeconds(throttled.getRetryAfterSeconds() - 1));
+        assertThat(catchThrottled("user")).isNotNull();
+        clock.advance(Duration.ofSeconds(1));
+        assertThatCode(() -> loginAttemptLimiter.checkAllowed("user", ADDRESS)).doesNotThrowAnyException();
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThatCode(() -> loginAttemptLimiter.checkAllowed("user", ADDRESS)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testSuccessfulLoginClearsTheLoginFailures() {
+        failLogins("user", ADDRESS, 2);
+        loginAttemptLimiter.loginSucceeded("user");
+        failLogins("user", ADDRESS, 2);
+
+        assertThatCode(() -> loginAttemptLimiter.checkAllowed("user", ADDRESS)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testStaleEntriesAreRemoved() {
+        failLogins("user", ADDRESS, 1);
+        assertThat(meterRegistry.get("security.login.tracked").tag("key", "login").gauge().value()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(2));
+        loginAttemptLimiter.removeStaleEntries();
+
+        assertThat(meterRegistry.get("security.login.tracked").tag("key", "login").gauge().value()).isZero();
+        assertThat(meterRegistry.get("security.login.tracked").tag("key", "address").gauge().value()).isZero();
+    }
+
+    private void failLogins(String login, String address, int failures) {
+        for (int i = 0; i < failures; i++) {
+            loginAttemptLimiter.checkAllowed(login, address);
+            loginAttemptLimiter.loginFailed(login, address);
+        }
+    }
+
+    private LoginThrottledException catchThrottled(String login) {
+        try {
+            loginAttemptLimiter.checkAllowed(login, ADDRESS);
+            return null;
+        } catch (LoginThrottledException e) {
+            return e;
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2026-10-18T10:00:30Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
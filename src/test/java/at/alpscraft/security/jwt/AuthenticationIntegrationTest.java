@@ -1,5 +1,6 @@
 package at.alpscraft.security.jwt;
 
+import at.alpscraft.config.ApplicationProperties;
 import at.alpscraft.config.SecurityConfiguration;
 import at.alpscraft.config.SecurityJwtConfiguration;
 import at.alpscraft.config.WebConfigurer;
@@ -21,6 +22,7 @@ import tech.jhipster.config.JHipsterProperties;
     },
     classes = {
         JHipsterProperties.class,
+        ApplicationProperties.class,
         WebConfigurer.class,
         SecurityConfiguration.class,
         SecurityJwtConfiguration.class,
@@ -0,0 +1,105 @@
+package at.alpscraft.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+
+/**
+ * Test class for the {@link CachingJwtDecoder} class.
+ */
+class CachingJwtDecoderTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private JwtDecoder delegate;
+
+    private ConcurrentMapCache cache;
+
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    public void setup() {
+        delegate = mock(JwtDecoder.class);
+        cache = new ConcurrentMapCache(CachingJwtDecoder.DECODED_TOKENS_CACHE);
+        cachingJwtDecoder = new CachingJwtDecoder(delegate, cache, new JwtTimestampValidator());
+    }
+
+    @Test
+    void testRepeatedTokenIsDecodedOnce() {
+        Jwt jwt = jwt(Instant.now().plusSeconds(600));
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+
+        assertThat(cachingJwtDecoder.decode(TOKEN)).isSameAs(jwt);
+        Jwt cached = cachingJwtDecoder.decode(TOKEN);
+
+        verify(delegate, times(1)).decode(TOKEN);
+        assertThat(cached.getTokenValue()).isEqualTo(TOKEN);
+        assertThat(cached.getClaims()).isEqualTo(jwt.getClaims());
+    }
+
+    @Test
+    void testTokenIsCachedByItsDigest() {
+        when(delegate.decode(TOKEN)).thenReturn(jwt(Instant.now().plusSeconds(600)));
+
+        cachingJwtDecoder.decode(TOKEN);
+
+        // SHA-256 of the token, Base64 URL encoded without padding
+        String key = "JW0E205eSsMIdR7QiFtyK3WGMFZ8U6cSXtn70Gjlw_Y";
+        assertThat(CachingJwtDecoder.key(TOKEN)).isEqualTo(key);
+        assertThat(cache.getNativeCache()).containsOnlyKeys(key);
+        assertThat(cache.get(key, Jwt.class).getTokenValue()).isEqualTo(key);
+    }
+
+    @Test
+    void testInvalidTokenIsNotCached() {
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("Invalid signature"));
+
+        assertThatThrownBy(() -> cachingJwtDecoder.decode(TOKEN)).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> cachingJwtDecoder.decode(TOKEN)).isInstanceOf(BadJwtException.class);
+
+        verify(delegate, times(2)).decode(TOKEN);
+        assertThat(cache.getNativeCache()).isEmpty();
+    }
+
+    @Test
+    void testExpiredCachedTokenIsDecodedAgain() {
+        // expired beyond the 60 seconds of clock skew accepted by the validator
+        cache.put(CachingJwtDecoder.key(TOKEN), jwt(Instant.now().minusSeconds(120)));
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("Jwt expired at"));
+
+        assertThatThrownBy(() -> cachingJwtDecoder.decode(TOKEN)).isInstanceOf(BadJwtException.class);
+
+        verify(delegate).decode(TOKEN);
+        assertThat(cache.getNativeCache()).isEmpty();
+    }
+
+    @Test
+    void testEvictedTokenIsDecodedAgain() {
+        Jwt jwt = jwt(Instant.now().plusSeconds(600));
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+        cachingJwtDecoder.decode(TOKEN);
+
+        cachingJwtDecoder.evict(TOKEN);
+        cachingJwtDecoder.decode(TOKEN);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue(TOKEN)
+            .header("alg", "HS512")
+            .subject("user")
+            .issuedAt(expiresAt.minusSeconds(3600))
+            .expiresAt(expiresAt)
+            .build();
+    }
+}
@@ -18,6 +18,9 @@ class TokenAuthenticationIT {
     @Autowired
     private MockMvc mvc;
 
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
     @Value("${jhipster.security.authentication.jwt.base64-secret}")
     private String jwtKey;
 
@@ -41,6 +44,16 @@ class TokenAuthenticationIT {
         expectUnauthorized(createExpiredToken(jwtKey));
     }
 
+    @Test
+    void testReturnFalseWhenJWTisRevoked() throws Exception {
+        String token = createValidTokenWithId(jwtKey, "revoked-token-id");
+        expectOk(token);
+
+        tokenRevocationList.add("revoked-token-id");
+
+        expectUnauthorized(token);
+    }
+
     private void expectOk(String token) throws Exception {
         mvc.perform(MockMvcRequestBuilders.get("/api/authenticate").header(AUTHORIZATION, BEARER + token)).andExpect(status().isOk());
     }
@@ -0,0 +1,103 @@
+package at.alpscraft.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Test class for the {@link TokenRevocationList} class.
+ */
+class TokenRevocationListTest {
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    public void setup() {
+        tokenRevocationList = new TokenRevocationList(1000, 0.01);
+    }
+
+    @Test
+    void testRevokedTokenFailsValidation() {
+        String jti = UUID.randomUUID().toString();
+        assertThat(tokenRevocationList.validate(jwt(jti)).hasErrors()).isFalse();
+
+        tokenRevocationList.add(jti);
+
+        assertThat(tokenRevocationList.isRevoked(jti)).isTrue();
+        assertThat(tokenRevocationList.validate(jwt(jti)).getErrors()).singleElement().satisfies(error ->
+            assertThat(error.getDescription()).isEqualTo(TokenRevocationList.REVOKED_DESCRIPTION)
+        );
+        assertThat(tokenRevocationList.validate(jwt(UUID.randomUUID().toString())).hasErrors()).isFalse();
+    }
+
+    @Test
+    void testTokenWithoutIdIsNotRevoked() {
+        assertThat(tokenRevocationList.validate(jwt(null)).hasErrors()).isFalse();
+    }
+
+    @Test
+    void testReplaceAllKeepsOnlyTheGivenIds() {
+        tokenRevocationList.add("expired");
+
+        int revoked = tokenRevocationList.replaceAll(List.of("first", "second").iterator());
+
+        assertThat(revoked).isEqualTo(2);
+        assertThat(tokenRevocationList.size()).isEqualTo(2);
+        assertThat(tokenRevocationList.isRevoked("first")).isTrue();
+        assertThat(tokenRevocationList.isRevoked("second")).isTrue();
+        assertThat(tokenRevocationList.isRevoked("expired")).isFalse();
+    }
+
+    @Test
+    void testIdsAddedDuringReplaceAllAreKept() {
+        Iterator<String> jtis = List.of("first", "second").iterator();
+
+        tokenRevocationList.replaceAll(
+            new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return jtis.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    tokenRevocationList.add("added-meanwhile");
+                    return jtis.next();
+                }
+            }
+        );
+
+        assertThat(tokenRevocationList.isRevoked("added-meanwhile")).isTrue();
+        assertThat(tokenRevocationList.size()).isEqualTo(3);
+    }
+
+    @Test
+    void testBloomFilterHasNoFalseNegativesAndFewFalsePositives() {
+        TokenRevocationList.BloomFilter filter = new TokenRevocationList.BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("revoked-" + i));
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("revoked-" + i))).isTrue();
+        long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("valid-" + i)).count();
+        assertThat(falsePositives).isLessThan(2_000);
+        assertThat(filter.getHashCount()).isEqualTo(7);
+    }
+
+    private static Jwt jwt(String jti) {
+        Jwt.Builder builder = Jwt.withTokenValue("token")
+            .header("alg", "HS512")
+            .subject("user")
+            .issuedAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(60));
+        if (jti != null) {
+            builder.jti(jti);
+        }
+        return builder.build();
+    }
+}
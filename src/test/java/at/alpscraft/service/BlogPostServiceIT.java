@@ -0,0 +1,143 @@
+package at.alpscraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.alpscraft.IntegrationTest;
+import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.PostCategory;
+import at.alpscraft.domain.User;
+import at.alpscraft.domain.enumeration.PostStatus;
+import at.alpscraft.repository.BlogPostRepository;
+import at.alpscraft.repository.PostCategoryRepository;
+import at.alpscraft.repository.UserRepository;
+import at.alpscraft.service.dto.BlogPostDTO;
+import jakarta.persistence.EntityManager;
+import java.util.EnumSet;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link BlogPostService}.
+ */
+@IntegrationTest
+@Transactional
+class BlogPostServiceIT {
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private PostCategoryRepository postCategoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BlogPostService blogPostService;
+
+    @Autowired
+    private EntityManager em;
+
+    private SessionFactory sessionFactory;
+
+    private Statistics statistics;
+
+    private User author;
+
+    @BeforeEach
+    public void init() {
+        sessionFactory = em.getEntityManagerFactory().unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        author = userRepository.findOneByLogin("admin").orElseThrow();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void assertThatPostsAreLoadedWithTheirRelationships() {
+        insertBlogPosts(3);
+
+        List<BlogPostDTO> blogPosts = readAllWithRelationships();
+
+        assertThat(blogPosts).hasSizeGreaterThanOrEqualTo(3);
+        assertThat(blogPosts)
+            .filteredOn(blogPost -> blogPost.getTitle().startsWith("statement-count"))
+            .allSatisfy(blogPost -> {
+                assertThat(blogPost.getCategory()).isNotNull();
+                assertThat(blogPost.getCategory().getName()).startsWith("category-");
+                assertThat(blogPost.getAuthor().getLogin()).isEqualTo("admin");
+            });
+    }
+
+    @Test
+    void assertThatStatementCountDoesNotGrowWithTheNumberOfPosts() {
+        insertBlogPosts(2);
+        readAllWithRelationships();
+        long statementsForFewPosts = statistics.getPrepareStatementCount();
+
+        insertBlogPosts(20);
+        readAllWithRelationships();
+        long statementsForManyPosts = statistics.getPrepareStatementCount();
+
+        assertThat(statementsForManyPosts).isEqualTo(statementsForFewPosts);
+    }
+
+    @Test
+    @WithMockUser("admin")
+    void assertThatStatementCountOfCurrentUserPostsDoesNotGrowWithTheNumberOfPosts() {
+        insertBlogPosts(2);
+        List<BlogPostDTO> fewPosts = readAllOfCurrentUser();
+        long statementsForFewPosts = statistics.getPrepareStatementCount();
+
+        insertBlogPosts(20);
+        List<BlogPostDTO> manyPosts = readAllOfCurrentUser();
+        long statementsForManyPosts = statistics.getPrepareStatementCount();
+
+        assertThat(manyPosts).hasSize(fewPosts.size() + 20);
+        assertThat(manyPosts)
+            .filteredOn(blogPost -> blogPost.getTitle().startsWith("statement-count"))
+            .allSatisfy(blogPost -> {
+                assertThat(blogPost.getCategory().getName()).startsWith("category-");
+                assertThat(blogPost.getAuthor().getLogin()).isEqualTo("admin");
+            });
+        assertThat(statementsForManyPosts).isEqualTo(statementsForFewPosts);
+    }
+
+    private void insertBlogPosts(int count) {
+        for (int i = 0; i < count; i++) {
+            PostCategory category = postCategoryRepository.save(new PostCategory().name("category-" + i));
+            blogPostRepository.save(new BlogPost().title("statement-count-" + i).content("content").category(category).author(author));
+        }
+        em.flush();
+    }
+
+    private List<BlogPostDTO> readAllOfCurrentUser() {
+        em.clear();
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+        return blogPostService.findAllOfCurrentUser();
+    }
+
+    private List<BlogPostDTO> readAllWithRelationships() {
+        // start from a cold persistence context and second-level cache, as a fresh request would
+        em.clear();
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+        return blogPostService
+            .findAllWithRelationships(EnumSet.allOf(PostStatus.class), PageRequest.of(0, 1000, Sort.by("id")))
+            .getContent();
+    }
+}
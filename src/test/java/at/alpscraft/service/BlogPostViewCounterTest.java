@@ -0,0 +1,100 @@
+package at.alpscraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import at.alpscraft.config.ApplicationProperties;
+import at.alpscraft.repository.BlogPostRepository;
+import at.alpscraft.repository.PopularBlogPost;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for {@link BlogPostViewCounter}.
+ */
+class BlogPostViewCounterTest {
+
+    private BlogPostRepository blogPostRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private List<List<String>> flushedViews;
+
+    private BlogPostViewCounter blogPostViewCounter;
+
+    @BeforeEach
+    void init() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getBlogPostStats().setPopularSize(2);
+        blogPostRepository = mock(BlogPostRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        flushedViews = new ArrayList<>();
+        when(batchUpdate()).thenAnswer(this::recordFlush);
+        blogPostViewCounter = new BlogPostViewCounter(
+            applicationProperties,
+            blogPostRepository,
+            jdbcTemplate,
+            mock(PlatformTransactionManager.class)
+        );
+    }
+
+    @Test
+    void shouldFlushTheViewsCountedSinceTheLastFlush() {
+        blogPostViewCounter.recordView(2L);
+        blogPostViewCounter.recordView(1L);
+        blogPostViewCounter.recordView(2L);
+        blogPostViewCounter.flush();
+        blogPostViewCounter.recordView(1L);
+        blogPostViewCounter.flush();
+        blogPostViewCounter.flush();
+
+        assertThat(flushedViews).containsExactly(List.of("1=1", "2=2"), List.of("1=1"));
+        verify(blogPostRepository, times(3)).findMostRead(2);
+    }
+
+    @Test
+    void shouldCountTheViewsAgainWhenTheFlushFails() {
+        when(batchUpdate()).thenThrow(new QueryTimeoutException("timeout")).thenAnswer(this::recordFlush);
+        blogPostViewCounter.recordView(1L);
+        blogPostViewCounter.flush();
+        blogPostViewCounter.recordView(1L);
+        blogPostViewCounter.flush();
+
+        assertThat(flushedViews).containsExactly(List.of("1=2"));
+        verify(blogPostRepository, times(1)).findMostRead(2);
+    }
+
+    private int[][] recordFlush(InvocationOnMock invocation) {
+        Collection<long[]> views = invocation.getArgument(1);
+        flushedViews.add(views.stream().map(view -> view[0] + "=" + view[1]).toList());
+        return new int[0][];
+    }
+
+    private int[][] batchUpdate() {
+        return jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void shouldServeTheMostReadPostsFromMemory() {
+        PopularBlogPost first = mock(PopularBlogPost.class);
+        PopularBlogPost second = mock(PopularBlogPost.class);
+        when(blogPostRepository.findMostRead(2)).thenReturn(List.of(first, second));
+        blogPostViewCounter.refreshMostRead();
+
+        assertThat(blogPostViewCounter.findMostRead(1)).containsExactly(first);
+        assertThat(blogPostViewCounter.findMostRead(10)).containsExactly(first, second);
+        verify(blogPostRepository, times(1)).findMostRead(anyInt());
+    }
+}
@@ -0,0 +1,147 @@
+package at.alpscraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.alpscraft.IntegrationTest;
+import at.alpscraft.domain.PostCategory;
+import at.alpscraft.repository.PostCategoryRepository;
+import at.alpscraft.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link CacheInvalidationBus}, playing the role of another node on the same database.
+ */
+@IntegrationTest
+@TestPropertySource(properties = { "application.cache.invalidation.enabled=true", "application.cache.invalidation.reconnect-delay-ms=100" })
+class CacheInvalidationBusIT {
+
+    private static final String CHANNEL = "cache_invalidation";
+
+    private static final String OTHER_NODE = "other-node";
+
+    private static final long TIMEOUT_MS = 10_000;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PostCategoryRepository postCategoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private PostCategory postCategory;
+
+    @BeforeEach
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        if (postCategory != null) {
+            transactionTemplate.executeWithoutResult(status -> postCategoryRepository.deleteById(postCategory.getId()));
+            postCategory = null;
+        }
+    }
+
+    @Test
+    void assertThatRemoteCacheEvictionIsApplied() throws Exception {
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).put("remote-user", "cached");
+
+        notifyAsOtherNode(OTHER_NODE + "|K|" + UserRepository.USERS_BY_LOGIN_CACHE + "|Sremote-user");
+
+        awaitUntil(() -> cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).get("remote-user") == null);
+    }
+
+    @Test
+    void assertThatRemoteEntityEvictionIsApplied() throws Exception {
+        postCategory = transactionTemplate.execute(status -> postCategoryRepository.save(new PostCategory().name("remote")));
+        transactionTemplate.executeWithoutResult(status -> postCategoryRepository.findById(postCategory.getId()));
+        org.hibernate.Cache secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertThat(secondLevelCache.containsEntity(PostCategory.class, postCategory.getId())).isTrue();
+
+        notifyAsOtherNode(OTHER_NODE + "|E|" + PostCategory.class.getName() + "|L" + postCategory.getId());
+
+        awaitUntil(() -> !secondLevelCache.containsEntity(PostCategory.class, postCategory.getId()));
+    }
+
+    @Test
+    void assertThatLocalChangesAreBroadcast() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+            }
+
+            cacheInvalidationBus.publish(UserRepository.USERS_BY_LOGIN_CACHE, "local-user");
+            postCategory = transactionTemplate.execute(status -> postCategoryRepository.save(new PostCategory().name("local")));
+            transactionTemplate.executeWithoutResult(status ->
+                postCategoryRepository.findById(postCategory.getId()).orElseThrow().setName("local, updated")
+            );
+
+            List<String> evictions = new ArrayList<>();
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            awaitUntil(() -> {
+                try {
+                    PGNotification[] notifications = pgConnection.getNotifications(100);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            evictions.addAll(List.of(notification.getParameter().split("\n")));
+                        }
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return evictions.size() >= 2;
+            });
+            assertThat(evictions)
+                .anyMatch(eviction -> eviction.endsWith("|K|" + UserRepository.USERS_BY_LOGIN_CACHE + "|Slocal-user"))
+                .anyMatch(eviction -> eviction.endsWith("|E|" + PostCategory.class.getName() + "|L" + postCategory.getId()));
+        }
+    }
+
+    private void notifyAsOtherNode(String payload) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.queryForList("select pg_notify(?, ?)", CHANNEL, payload));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition met before timeout").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package at.alpscraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import at.alpscraft.config.ApplicationProperties;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for {@link CacheInvalidationBus}.
+ */
+class CacheInvalidationBusTest {
+
+    private static final String REMOTE_NODE = "remote-node";
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    private CacheImplementor secondLevelCache;
+
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @BeforeEach
+    public void init() {
+        cacheManager = new ConcurrentMapCacheManager("usersByLogin");
+        secondLevelCache = mock(CacheImplementor.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+
+        cacheInvalidationBus = new CacheInvalidationBus(
+            new ApplicationProperties(),
+            new DataSourceProperties(),
+            mock(JdbcTemplate.class),
+            mock(PlatformTransactionManager.class),
+            cacheManager,
+            entityManagerFactory
+        );
+    }
+
+    @Test
+    void shouldEncodeAndDecodeKeys() {
+        assertThat(CacheInvalidationBus.decodeKey(CacheInvalidationBus.encodeKey(42L))).isEqualTo(42L);
+        assertThat(CacheInvalidationBus.decodeKey(CacheInvalidationBus.encodeKey("L42"))).isEqualTo("L42");
+        assertThat(CacheInvalidationBus.decodeKey(CacheInvalidationBus.encodeKey("user|name"))).isEqualTo("user|name");
+        assertThat(CacheInvalidationBus.encodeKey(CacheInvalidationBus.ALL_KEYS)).isEqualTo(CacheInvalidationBus.ALL_KEYS);
+        assertThat(CacheInvalidationBus.encodeKey(42)).isEqualTo(CacheInvalidationBus.ALL_KEYS);
+    }
+
+    @Test
+    void shouldSplitLargeBatchesIntoSeveralPayloads() {
+        List<String> evictions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            evictions.add(REMOTE_NODE + "|E|at.alpscraft.domain.BlogPost|L" + i);
+        }
+
+        List<String> payloads = CacheInvalidationBus.toPayloads(evictions);
+
+        assertThat(payloads).hasSizeGreaterThan(1).allSatisfy(payload -> assertThat(payload.length()).isLessThanOrEqualTo(7000));
+        assertThat(String.join("\n", payloads).split("\n")).containsExactlyElementsOf(evictions);
+    }
+
+    @Test
+    void shouldEvictRemoteEntityAndCollectionChanges() {
+        cacheInvalidationBus.handle(
+            REMOTE_NODE +
+            "|E|at.alpscraft.domain.BlogPost|L1\n" +
+            REMOTE_NODE +
+            "|C|at.alpscraft.domain.User.authorities|L2\n" +
+            REMOTE_NODE +
+            "|E|at.alpscraft.domain.StaticPage|*"
+        );
+
+        verify(secondLevelCache).evictEntityData("at.alpscraft.domain.BlogPost", 1L);
+        verify(secondLevelCache).evictCollectionData("at.alpscraft.domain.User.authorities", 2L);
+        verify(secondLevelCache).evictEntityData("at.alpscraft.domain.StaticPage");
+    }
+
+    @Test
+    void shouldEvictRemoteSpringCacheAndRegionChanges() {
+        cacheManager.getCache("usersByLogin").put("admin", "cached");
+        cacheManager.getCache("usersByLogin").put("user", "cached");
+        AtomicReference<String> layoutEviction = new AtomicReference<>();
+        cacheInvalidationBus.subscribe("layout", layoutEviction::set);
+
+        cacheInvalidationBus.handle(REMOTE_NODE + "|K|usersByLogin|Sadmin\n" + REMOTE_NODE + "|K|layout|*");
+
+        assertThat(cacheManager.getCache("usersByLogin").get("admin")).isNull();
+        assertThat(cacheManager.getCache("usersByLogin").get("user")).isNotNull();
+        assertThat(layoutEviction.get()).isEqualTo(CacheInvalidationBus.ALL_KEYS);
+    }
+
+    @Test
+    void shouldIgnoreMalformedEvictions() {
+        cacheInvalidationBus.handle("garbage\n" + REMOTE_NODE + "|E|at.alpscraft.domain.BlogPost|L1");
+
+        verify(secondLevelCache).evictEntityData("at.alpscraft.domain.BlogPost", 1L);
+    }
+}
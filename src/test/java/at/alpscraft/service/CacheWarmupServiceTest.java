@@ -0,0 +1,191 @@
+package at.alpscraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import at.alpscraft.config.ApplicationProperties;
+import at.alpscraft.repository.BlogPostRepository;
+import at.alpscraft.repository.PostCategoryRepository;
+import at.alpscraft.repository.StaticPageRepository;
+import at.alpscraft.repository.UiSectionElementRepository;
+import at.alpscraft.repository.UiSectionRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for {@link CacheWarmupService}.
+ */
+class CacheWarmupServiceTest {
+
+    private ApplicationProperties applicationProperties;
+
+    private BlogPostRepository blogPostRepository;
+
+    private StaticPageRepository staticPageRepository;
+
+    private PostCategoryRepository postCategoryRepository;
+
+    private UiSectionRepository uiSectionRepository;
+
+    private UiSectionElementRepository uiSectionElementRepository;
+
+    private LayoutService layoutService;
+
+    private List<Runnable> scheduledTasks;
+
+    @BeforeEach
+    public void init() {
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getCache().getWarmup().setEnabled(true);
+        applicationProperties.getCache().getWarmup().setBatchSize(10);
+        applicationProperties.getCache().getWarmup().setBlogPosts(25);
+
+        blogPostRepository = mock(BlogPostRepository.class);
+        staticPageRepository = mock(StaticPageRepository.class);
+        postCategoryRepository = mock(PostCategoryRepository.class);
+        uiSectionRepository = mock(UiSectionRepository.class);
+        uiSectionElementRepository = mock(UiSectionElementRepository.class);
+        layoutService = mock(LayoutService.class);
+
+        when(blogPostRepository.count()).thenReturn(100L);
+        when(staticPageRepository.count()).thenReturn(10L);
+        when(postCategoryRepository.count()).thenReturn(0L);
+        when(uiSectionRepository.count()).thenReturn(3L);
+        when(uiSectionElementRepository.count()).thenReturn(11L);
+        when(staticPageRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        when(uiSectionRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        when(uiSectionElementRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+
+        scheduledTasks = new ArrayList<>();
+    }
+
+    @Test
+    void shouldPreloadEntitiesInBatches() {
+        CacheWarmupService cacheWarmupService = createService(Runnable::run);
+
+        cacheWarmupService.onApplicationReady();
+
+        // 25 of the most read blog posts, rounded up to whole batches
+        ArgumentCaptor<Pageable> blogPostPages = ArgumentCaptor.forClass(Pageable.class);
+        verify(blogPostRepository, times(3)).findAllPublishedOrderByViewCount(blogPostPages.capture());
+        assertThat(blogPostPages.getAllValues()).extracting(Pageable::getPageNumber).containsExactly(0, 1, 2);
+        assertThat(blogPostPages.getValue().getSort()).isEqualTo(Sort.unsorted());
+        verify(staticPageRepository, times(1)).findAll(any(Pageable.class));
+        verify(postCategoryRepository, never()).findAll(any(Pageable.class));
+        verify(uiSectionRepository, times(1)).findAll(any(Pageable.class));
+        verify(uiSectionElementRepository, times(2)).findAll(any(Pageable.class));
+        verify(layoutService).getLayout();
+
+        assertThat(cacheWarmupService.getState()).isEqualTo(CacheWarmupService.State.DONE);
+        assertThat(cacheWarmupService.getCompletedBatches()).isEqualTo(7);
+        assertThat(cacheWarmupService.getTotalBatches()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldKeepGoingWhenBatchFails() {
+        when(staticPageRepository.findAll(any(Pageable.class))).thenThrow(new IllegalStateException("boom"));
+        CacheWarmupService cacheWarmupService = createService(Runnable::run);
+
+        cacheWarmupService.onApplicationReady();
+
+        assertThat(cacheWarmupService.getState()).isEqualTo(CacheWarmupService.State.DONE);
+        assertThat(cacheWarmupService.getFailedBatches()).isEqualTo(1);
+        verify(uiSectionElementRepository, times(2)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void shouldFailWithoutBlockingReadinessWhenPlanningFails() {
+        when(staticPageRepository.count()).thenThrow(new IllegalStateException("boom"));
+        CacheWarmupService cacheWarmupService = createService(Runnable::run);
+
+        cacheWarmupService.onApplicationReady();
+
+        assertThat(cacheWarmupService.getState()).isEqualTo(CacheWarmupService.State.FAILED);
+        verify(blogPostRepository, never()).findAllPublishedOrderByViewCount(any(Pageable.class));
+        assertThat(new CacheWarmupHealthIndicator(cacheWarmupService).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void shouldFailWhenExecutorRejectsWarmUp() {
+        CacheWarmupService cacheWarmupService = createService(task -> {
+            throw new RejectedExecutionException("saturated");
+        });
+
+        cacheWarmupService.onApplicationReady();
+
+        assertThat(cacheWarmupService.getState()).isEqualTo(CacheWarmupService.State.FAILED);
+    }
+
+    @Test
+    void shouldFinishWithStartedWorkersWhenExecutorRejectsWorker() {
+        applicationProperties.getCache().getWarmup().setParallelism(2);
+        CacheWarmupService cacheWarmupService = createService(task -> {
+            if (!scheduledTasks.isEmpty()) {
+                throw new RejectedExecutionException("saturated");
+            }
+            scheduledTasks.add(task);
+        });
+
+        cacheWarmupService.warmUp();
+        runScheduledTasks();
+
+        assertThat(cacheWarmupService.getState()).isEqualTo(CacheWarmupService.State.DONE);
+        assertThat(cacheWarmupService.getCompletedBatches()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldReportProgressOnReadiness() {
+        applicationProperties.getCache().getWarmup().setParallelism(2);
+        CacheWarmupService cacheWarmupService = createService(scheduledTasks::add);
+        CacheWarmupHealthIndicator healthIndicator = new CacheWarmupHealthIndicator(cacheWarmupService);
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        cacheWarmupService.onApplicationReady();
+        runScheduledTasks();
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(healthIndicator.health().getDetails()).containsEntry("completedBatches", 7).containsEntry("totalBatches", 7);
+    }
+
+    @Test
+    void shouldBeReadyWhenDisabled() {
+        applicationProperties.getCache().getWarmup().setEnabled(false);
+        CacheWarmupService cacheWarmupService = createService(scheduledTasks::add);
+
+        cacheWarmupService.onApplicationReady();
+
+        assertThat(scheduledTasks).isEmpty();
+        assertThat(cacheWarmupService.getState()).isEqualTo(CacheWarmupService.State.DISABLED);
+        assertThat(new CacheWarmupHealthIndicator(cacheWarmupService).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private CacheWarmupService createService(Executor executor) {
+        return new CacheWarmupService(
+            applicationProperties,
+            blogPostRepository,
+            staticPageRepository,
+            postCategoryRepository,
+            uiSectionRepository,
+            uiSectionElementRepository,
+            layoutService,
+            mock(PlatformTransactionManager.class),
+            executor
+        );
+    }
+
+    private void runScheduledTasks() {
+        while (!scheduledTasks.isEmpty()) {
+            scheduledTasks.remove(0).run();
+        }
+    }
+}
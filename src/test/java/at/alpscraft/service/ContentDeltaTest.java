@@ -0,0 +1,62 @@
+package at.alpscraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ContentDelta}.
+ */
+class ContentDeltaTest {
+
+    private static final String PREVIOUS = "Aufstieg\nzur Hütte\nüber den Grat\nzum Gipfel\nAbfahrt\nim Tal\n";
+
+    private static final String CURRENT = "Aufstieg\nzur Hütte\ndurch die Rinne\nzum Gipfel\nAbfahrt\nim Tal\nEinkehr";
+
+    @Test
+    void testDeltaRebuildsCurrentContent() {
+        byte[] delta = ContentDelta.encode(PREVIOUS, CURRENT);
+
+        assertThat(ContentDelta.apply(PREVIOUS, delta)).isEqualTo(CURRENT);
+        assertThat(ContentDelta.apply(CURRENT, ContentDelta.encode(CURRENT, PREVIOUS))).isEqualTo(PREVIOUS);
+    }
+
+    @Test
+    void testSnapshotIsDeltaFromEmptyContent() {
+        assertThat(ContentDelta.apply("", ContentDelta.encode("", CURRENT))).isEqualTo(CURRENT);
+        assertThat(ContentDelta.apply(CURRENT, ContentDelta.encode(CURRENT, ""))).isEmpty();
+    }
+
+    @Test
+    void testDeltaOfLongContentIsSmall() {
+        String previous = "Eine Zeile über die Tour auf den Gipfel.\n".repeat(1000);
+        String current = previous + "Noch eine Zeile.\n";
+
+        byte[] delta = ContentDelta.encode(previous, current);
+
+        assertThat(delta.length).isLessThan(100);
+        assertThat(ContentDelta.apply(previous, delta)).isEqualTo(current);
+    }
+
+    @Test
+    void testUnifiedDiff() {
+        String diff = ContentDelta.unifiedDiff(PREVIOUS, CURRENT, "revision 1", "revision 2");
+
+        assertThat(diff).isEqualTo(
+            """
+            --- revision 1
+            +++ revision 2
+            @@ -1,6 +1,7 @@
+             Aufstieg
+             zur Hütte
+            -über den Grat
+            +durch die Rinne
+             zum Gipfel
+             Abfahrt
+             im Tal
+            +Einkehr
+            \\ No newline at end of file
+            """
+        );
+    }
+}
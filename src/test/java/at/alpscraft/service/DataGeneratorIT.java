@@ -0,0 +1,127 @@
+package at.alpscraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.alpscraft.IntegrationTest;
+import at.alpscraft.config.ApplicationProperties;
+import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.enumeration.SectionType;
+import at.alpscraft.repository.BlogPostRepository;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Integration tests for {@link DataGenerator}.
+ */
+@IntegrationTest
+class DataGeneratorIT {
+
+    private static final String[] TABLES = { "blog_post", "static_page", "ui_section_element", "ui_section", "post_category" };
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    private DataGenerator dataGenerator;
+
+    private long lastIdBefore;
+
+    @BeforeEach
+    public void init() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        ApplicationProperties.DataGenerator properties = applicationProperties.getDataGenerator();
+        properties.setUsers(3);
+        properties.setCategories(2);
+        properties.setBlogPosts(25);
+        properties.setStaticPages(4);
+        properties.setSectionsPerType(1);
+        properties.setElementsPerSection(2);
+        properties.setMedianContentLength(500);
+        properties.setBatchSize(10);
+        dataGenerator = new DataGenerator(applicationProperties, dataSource, jdbcTemplate, passwordEncoder, applicationContext);
+        lastIdBefore = jdbcTemplate.queryForObject("select last_value from sequence_generator", Long.class);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        for (String table : TABLES) {
+            jdbcTemplate.update("delete from " + table + " where id > ?", lastIdBefore);
+        }
+        jdbcTemplate.update("delete from jhi_user_authority where user_id > ?", lastIdBefore);
+        jdbcTemplate.update("delete from jhi_user where id > ?", lastIdBefore);
+    }
+
+    @Test
+    void assertThatTheConfiguredVolumesAreInserted() throws Exception {
+        dataGenerator.generate();
+
+        assertThat(countGenerated("jhi_user")).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from jhi_user_authority where user_id > ?", Long.class, lastIdBefore))
+            .isEqualTo(3);
+        assertThat(countGenerated("post_category")).isEqualTo(2);
+        assertThat(countGenerated("blog_post")).isEqualTo(25);
+        assertThat(countGenerated("static_page")).isEqualTo(4);
+        assertThat(countGenerated("ui_section")).isEqualTo(SectionType.values().length);
+        assertThat(countGenerated("ui_section_element")).isEqualTo(SectionType.values().length * 2);
+        assertThat(
+            jdbcTemplate.queryForObject(
+                "select count(*) from blog_post where id > ? and category_id is not null and author_id is not null",
+                Long.class,
+                lastIdBefore
+            )
+        ).isEqualTo(25);
+        assertThat(jdbcTemplate.queryForObject("select max(length(content)) from blog_post where id > ?", Integer.class, lastIdBefore))
+            .isGreaterThan(255);
+    }
+
+    @Test
+    void assertThatTheSameSeedGeneratesTheSameContent() throws Exception {
+        dataGenerator.generate();
+        String first = jdbcTemplate.queryForObject(
+            "select string_agg(title, '|' order by id) from blog_post where id > ?",
+            String.class,
+            lastIdBefore
+        );
+        long lastIdAfterFirstRun = jdbcTemplate.queryForObject("select last_value from sequence_generator", Long.class);
+
+        dataGenerator.generate();
+        String second = jdbcTemplate.queryForObject(
+            "select string_agg(title, '|' order by id) from blog_post where id > ?",
+            String.class,
+            lastIdAfterFirstRun
+        );
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void assertThatEntitiesCanStillBeCreatedAfterTheGeneration() throws Exception {
+        dataGenerator.generate();
+        long lastGeneratedId = jdbcTemplate.queryForObject("select max(id) from ui_section_element", Long.class);
+
+        BlogPost blogPost = blogPostRepository.saveAndFlush(new BlogPost().title("title").content("content"));
+
+        assertThat(blogPost.getId()).isGreaterThan(lastGeneratedId);
+    }
+
+    private long countGenerated(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table + " where id > ?", Long.class, lastIdBefore);
+    }
+}
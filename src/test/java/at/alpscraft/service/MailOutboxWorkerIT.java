@@ -0,0 +1,106 @@
+package at.alpscraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import at.alpscraft.IntegrationTest;
+import at.alpscraft.config.ApplicationProperties;
+import at.alpscraft.domain.MailOutboxMessage;
+import at.alpscraft.repository.MailOutboxMessageRepository;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Integration tests for {@link MailOutboxWorker}.
+ */
+@IntegrationTest
+class MailOutboxWorkerIT {
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private MailOutboxMessageRepository mailOutboxMessageRepository;
+
+    @Autowired
+    private MailService mailService;
+
+    @Autowired
+    private MailOutboxWorker mailOutboxWorker;
+
+    @MockitoBean
+    private JavaMailSender javaMailSender;
+
+    @Captor
+    private ArgumentCaptor<MimeMessage[]> messagesCaptor;
+
+    @BeforeEach
+    public void setup() {
+        applicationProperties.getMail().getOutbox().setEnabled(true);
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        applicationProperties.getMail().getOutbox().setEnabled(false);
+        mailOutboxMessageRepository.deleteAll();
+    }
+
+    @Test
+    void testQueuedEmailsAreSentInOneBatch() throws Exception {
+        mailService.sendEmail("john.doe@example.com", "first", "testContent", false, false);
+        mailService.sendEmail("jane.doe@example.com", "second", "testContent", false, true);
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+        assertThat(mailOutboxMessageRepository.count()).isEqualTo(2);
+
+        mailOutboxWorker.deliverPendingMessages();
+
+        verify(javaMailSender).send(messagesCaptor.capture());
+        assertThat(messagesCaptor.getValue()).extracting(MimeMessage::getSubject).containsExactlyInAnyOrder("first", "second");
+        assertThat(mailOutboxMessageRepository.count()).isZero();
+    }
+
+    @Test
+    void testFailedEmailIsRetriedLater() {
+        doThrow(new MailSendException("Mail server connection failed")).when(javaMailSender).send(any(MimeMessage[].class));
+        mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+
+        mailOutboxWorker.deliverPendingMessages();
+        mailOutboxWorker.deliverPendingMessages();
+
+        verify(javaMailSender, times(1)).send(any(MimeMessage[].class));
+        List<MailOutboxMessage> messages = mailOutboxMessageRepository.findAll();
+        assertThat(messages).singleElement().satisfies(message -> {
+            assertThat(message.getAttempts()).isEqualTo(1);
+            assertThat(message.getNextAttemptAt()).isAfter(Instant.now());
+            assertThat(message.getLastError()).isEqualTo("Mail server connection failed");
+        });
+    }
+
+    @Test
+    void testEmailIsGivenUpAfterTheLastAttempt() {
+        doThrow(new MailSendException("Mail server connection failed")).when(javaMailSender).send(any(MimeMessage[].class));
+        mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
+        MailOutboxMessage message = mailOutboxMessageRepository.findAll().get(0);
+        mailOutboxMessageRepository.save(message.attempts(applicationProperties.getMail().getOutbox().getMaxAttempts() - 1));
+
+        mailOutboxWorker.deliverPendingMessages();
+
+        assertThat(mailOutboxMessageRepository.findById(message.getId())).hasValueSatisfying(givenUp -> {
+            assertThat(givenUp.getAttempts()).isEqualTo(applicationProperties.getMail().getOutbox().getMaxAttempts());
+            assertThat(givenUp.getNextAttemptAt()).isNull();
+        });
+    }
+}
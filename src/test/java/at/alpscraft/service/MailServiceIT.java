@@ -2,11 +2,15 @@ package at.alpscraft.service;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import at.alpscraft.IntegrationTest;
+import at.alpscraft.config.ApplicationProperties;
 import at.alpscraft.config.Constants;
 import at.alpscraft.domain.User;
+import at.alpscraft.repository.MailOutboxMessageRepository;
 import jakarta.mail.Multipart;
 import jakarta.mail.Session;
 import jakarta.mail.internet.MimeBodyPart;
@@ -18,6 +22,10 @@ import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -26,9 +34,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.springframework.context.MessageSource;
 import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+import org.thymeleaf.spring6.SpringTemplateEngine;
 import tech.jhipster.config.JHipsterProperties;
 
 /**
@@ -56,6 +68,15 @@ class MailServiceIT {
     @Autowired
     private MailService mailService;
 
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private MailOutboxMessageRepository mailOutboxMessageRepository;
+
+    @Autowired
+    private SpringTemplateEngine templateEngine;
+
     @BeforeEach
     public void setup() {
         doNothing().when(javaMailSender).send(any(MimeMessage.class));
@@ -183,6 +204,106 @@ class MailServiceIT {
         assertThat(message.getDataHandler().getContentType()).isEqualTo("text/html;charset=UTF-8");
     }
 
+    @Test
+    void testSendEmailFromTemplateToUsersOfSeveralLanguages() throws Exception {
+        User john = user("john", "john.doe@example.com", Constants.DEFAULT_LANGUAGE);
+        User jane = user("jane", "jane.doe@example.com", "en");
+        User joe = user("joe", "joe.doe@example.com", null);
+        User noEmail = user("noemail", null, "en");
+
+        mailService.sendEmailFromTemplate(List.of(john, jane, noEmail, joe), "mail/testEmail", "email.test.title");
+
+        // one batch over a single connection, without the user who has no email
+        ArgumentCaptor<MimeMessage[]> batchCaptor = ArgumentCaptor.forClass(MimeMessage[].class);
+        verify(javaMailSender).send(batchCaptor.capture());
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+        Map<String, MimeMessage> messages = new HashMap<>();
+        for (MimeMessage message : batchCaptor.getValue()) {
+            messages.put(message.getAllRecipients()[0].toString(), message);
+        }
+        assertThat(messages).containsOnlyKeys(john.getEmail(), jane.getEmail(), joe.getEmail());
+        assertThat(messages.get(john.getEmail()).getSubject()).isEqualTo("test title");
+        assertThat(messages.get(john.getEmail()).getContent().toString()).isEqualToNormalizingNewlines(
+            "<html>test title, http://127.0.0.1:8080, john</html>\n"
+        );
+        assertThat(messages.get(jane.getEmail()).getSubject()).isEqualTo("test title in English");
+        assertThat(messages.get(jane.getEmail()).getContent().toString()).isEqualToNormalizingNewlines(
+            "<html>test title in English, http://127.0.0.1:8080, jane</html>\n"
+        );
+        // users without a language get the default one
+        assertThat(messages.get(joe.getEmail()).getSubject()).isEqualTo("test title");
+    }
+
+    @Test
+    void testSendEmailFromTemplateWithoutEmailSendsNothing() {
+        mailService.sendEmailFromTemplate(List.of(user("noemail", null, "en")), "mail/testEmail", "email.test.title");
+
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+        verify(javaMailSender, never()).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    void testSendCreationEmails() throws Exception {
+        mailService.sendCreationEmails(List.of(user("john", "john.doe@example.com", "de"), user("jane", "jane.doe@example.com", "de")));
+
+        ArgumentCaptor<MimeMessage[]> batchCaptor = ArgumentCaptor.forClass(MimeMessage[].class);
+        verify(javaMailSender).send(batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).hasSize(2);
+        for (MimeMessage message : batchCaptor.getValue()) {
+            assertThat(message.getSubject()).isEqualTo("Aktivierung alpscraft_cms");
+        }
+    }
+
+    @Test
+    @Transactional
+    void testSendEmailFromTemplateToOutbox() {
+        ApplicationProperties.Mail.Outbox outbox = applicationProperties.getMail().getOutbox();
+        long countBefore = mailOutboxMessageRepository.count();
+        outbox.setEnabled(true);
+        try {
+            List<User> users = List.of(
+                user("john", "john.doe@example.com", "de"),
+                user("jane", "jane.doe@example.com", "en"),
+                user("noemail", null, "en")
+            );
+            mailService.sendEmailFromTemplate(users, "mail/testEmail", "email.test.title");
+        } finally {
+            outbox.setEnabled(false);
+        }
+
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+        verify(javaMailSender, never()).send(any(MimeMessage[].class));
+        assertThat(mailOutboxMessageRepository.count()).isEqualTo(countBefore + 2);
+        assertThat(mailOutboxMessageRepository.findAll())
+            .filteredOn(message -> message.getRecipient().equals("jane.doe@example.com"))
+            .singleElement()
+            .satisfies(message -> {
+                assertThat(message.getSubject()).isEqualTo("test title in English");
+                assertThat(message.getHtml()).isTrue();
+            });
+    }
+
+    @Test
+    void testSubjectsAreCachedOnlyWithTemplateCache() {
+        MessageSource messageSource = mock(MessageSource.class);
+        when(messageSource.getMessage(eq("email.test.title"), isNull(), any(Locale.class))).thenReturn("subject");
+        User john = user("john", "john.doe@example.com", "de");
+
+        ThymeleafProperties thymeleafProperties = new ThymeleafProperties();
+        thymeleafProperties.setCache(false);
+        MailService uncachedMailService = createMailService(messageSource, thymeleafProperties);
+        uncachedMailService.sendEmailFromTemplate(john, "mail/testEmail", "email.test.title");
+        uncachedMailService.sendEmailFromTemplate(john, "mail/testEmail", "email.test.title");
+        verify(messageSource, times(2)).getMessage(eq("email.test.title"), isNull(), any(Locale.class));
+
+        clearInvocations(messageSource);
+        thymeleafProperties.setCache(true);
+        MailService cachedMailService = createMailService(messageSource, thymeleafProperties);
+        cachedMailService.sendEmailFromTemplate(john, "mail/testEmail", "email.test.title");
+        cachedMailService.sendEmailFromTemplate(john, "mail/testEmail", "email.test.title");
+        verify(messageSource, times(1)).getMessage(eq("email.test.title"), isNull(), any(Locale.class));
+    }
+
     @Test
     void testSendEmailWithException() {
         doThrow(MailSendException.class).when(javaMailSender).send(any(MimeMessage.class));
@@ -218,6 +339,26 @@ class MailServiceIT {
         }
     }
 
+    private MailService createMailService(MessageSource messageSource, ThymeleafProperties thymeleafProperties) {
+        return new MailService(
+            jHipsterProperties,
+            javaMailSender,
+            messageSource,
+            templateEngine,
+            applicationProperties,
+            mailOutboxMessageRepository,
+            thymeleafProperties
+        );
+    }
+
+    private static User user(String login, String email, String langKey) {
+        User user = new User();
+        user.setLogin(login);
+        user.setEmail(email);
+        user.setLangKey(langKey);
+        return user;
+    }
+
     /**
      * Convert a lang key to the Java locale.
      */
@@ -0,0 +1,124 @@
+package at.alpscraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Unit tests for {@link RenderedContentCache}.
+ */
+class RenderedContentCacheTest {
+
+    private static final String CACHE = RenderedContentCache.STATIC_PAGES_CACHE;
+
+    private RenderedContentCache renderedContentCache;
+
+    private AtomicInteger loads;
+
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @BeforeEach
+    public void init() {
+        cacheInvalidationBus = mock(CacheInvalidationBus.class);
+        renderedContentCache = new RenderedContentCache(new ConcurrentMapCacheManager(CACHE), new ObjectMapper(), cacheInvalidationBus);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testRenderedContentIsGzippedJson() {
+        Optional<RenderedContent> renderedContent = renderedContentCache.get(CACHE, 1L, this::load, RenderedContentCacheTest::version);
+
+        assertThat(renderedContent).isPresent();
+        assertThat(new String(renderedContent.orElseThrow().getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+        // gzip magic number
+        assertThat(renderedContent.orElseThrow().getGzippedBody()).startsWith(0x1f, 0x8b);
+        assertThat(renderedContent.orElseThrow().getVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void testHitDoesNotLoadAgain() {
+        renderedContentCache.get(CACHE, 1L, this::load, RenderedContentCacheTest::version);
+        renderedContentCache.get(CACHE, 1L, this::load, RenderedContentCacheTest::version);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testEvictLoadsAgain() {
+        renderedContentCache.get(CACHE, 1L, this::load, RenderedContentCacheTest::version);
+        renderedContentCache.evict(CACHE, 1L);
+        renderedContentCache.get(CACHE, 1L, this::load, RenderedContentCacheTest::version);
+
+        assertThat(loads.get()).isEqualTo(2);
+        verify(cacheInvalidationBus).publish(CACHE, 1L);
+    }
+
+    @Test
+    void testLoadInterleavedWithEvictIsNotCached() {
+        // the writer evicts while the reader renders the state it read before the commit
+        Optional<RenderedContent> stale = renderedContentCache.get(
+            CACHE,
+            1L,
+            id -> {
+                Optional<Map<String, Long>> entity = load(id);
+                renderedContentCache.evict(CACHE, id);
+                return entity;
+            },
+            RenderedContentCacheTest::version
+        );
+        renderedContentCache.get(CACHE, 1L, this::load, RenderedContentCacheTest::version);
+        renderedContentCache.get(CACHE, 1L, this::load, RenderedContentCacheTest::version);
+
+        assertThat(stale).isPresent();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testLoadInterleavedWithRemoteEvictIsNotCached() {
+        ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.captor();
+        verify(cacheInvalidationBus).subscribe(eq(CACHE), handler.capture());
+
+        renderedContentCache.get(
+            CACHE,
+            1L,
+            id -> {
+                Optional<Map<String, Long>> entity = load(id);
+                handler.getValue().accept(CacheInvalidationBus.ALL_KEYS);
+                return entity;
+            },
+            RenderedContentCacheTest::version
+        );
+        renderedContentCache.get(CACHE, 1L, this::load, RenderedContentCacheTest::version);
+        handler.getValue().accept("1");
+        renderedContentCache.get(CACHE, 1L, this::load, RenderedContentCacheTest::version);
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testMissingEntityIsNotCached() {
+        assertThat(renderedContentCache.get(CACHE, 2L, id -> Optional.empty(), RenderedContentCacheTest::version)).isEmpty();
+        assertThat(renderedContentCache.get(CACHE, 2L, this::load, RenderedContentCacheTest::version)).isPresent();
+    }
+
+    private Optional<Map<String, Long>> load(Long id) {
+        loads.incrementAndGet();
+        return Optional.of(Map.of("id", id));
+    }
+
+    private static Integer version(Map<String, Long> entity) {
+        return 3;
+    }
+}
@@ -0,0 +1,65 @@
+package at.alpscraft.service.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.PostCategory;
+import at.alpscraft.domain.User;
+import at.alpscraft.service.dto.BlogPostDTO;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BlogPostMapper}.
+ */
+class BlogPostMapperTest {
+
+    private BlogPostMapper blogPostMapper;
+    private BlogPost blogPost;
+
+    @BeforeEach
+    public void init() {
+        blogPostMapper = new BlogPostMapper();
+        User author = new User();
+        author.setId(2L);
+        author.setLogin("johndoe");
+        blogPost = new BlogPost()
+            .id(1L)
+            .title("title")
+            .content("content")
+            .category(new PostCategory().id(3L).name("news").description("description"))
+            .author(author);
+    }
+
+    @Test
+    void blogPostToBlogPostDTOShouldMapRelationships() {
+        BlogPostDTO blogPostDTO = blogPostMapper.blogPostToBlogPostDTO(blogPost);
+
+        assertThat(blogPostDTO.getId()).isEqualTo(1L);
+        assertThat(blogPostDTO.getTitle()).isEqualTo("title");
+        assertThat(blogPostDTO.getContent()).isEqualTo("content");
+        assertThat(blogPostDTO.getCategory().getId()).isEqualTo(3L);
+        assertThat(blogPostDTO.getCategory().getName()).isEqualTo("news");
+        assertThat(blogPostDTO.getAuthor().getLogin()).isEqualTo("johndoe");
+    }
+
+    @Test
+    void blogPostToBlogPostDTOShouldAllowMissingRelationships() {
+        blogPost.setCategory(null);
+        blogPost.setAuthor(null);
+
+        BlogPostDTO blogPostDTO = blogPostMapper.blogPostToBlogPostDTO(blogPost);
+
+        assertThat(blogPostDTO.getCategory()).isNull();
+        assertThat(blogPostDTO.getAuthor()).isNull();
+    }
+
+    @Test
+    void blogPostsToBlogPostDTOsShouldSkipNullValues() {
+        List<BlogPost> blogPosts = Arrays.asList(blogPost, null);
+
+        assertThat(blogPostMapper.blogPostsToBlogPostDTOs(blogPosts)).hasSize(1);
+    }
+}
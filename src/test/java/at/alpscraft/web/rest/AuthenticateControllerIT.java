@@ -99,4 +99,37 @@ class AuthenticateControllerIT {
             .andExpect(jsonPath("$.id_token").doesNotExist())
             .andExpect(header().doesNotExist("Authorization"));
     }
+
+    @Test
+    void testAuthorizeIsThrottledAfterTooManyFailures() throws Exception {
+        LoginVM login = new LoginVM();
+        login.setUsername("throttled-user");
+        login.setPassword("wrong password");
+        for (int i = 0; i < 5; i++) {
+            mockMvc
+                .perform(
+                    post("/api/authenticate")
+                        .with(request -> {
+                            request.setRemoteAddr("192.0.2.10");
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsBytes(login))
+                )
+                .andExpect(status().isUnauthorized());
+        }
+        mockMvc
+            .perform(
+                post("/api/authenticate")
+                    .with(request -> {
+                        request.setRemoteAddr("192.0.2.10");
+                        return request;
+                    })
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(login))
+            )
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"))
+            .andExpect(header().doesNotExist("Authorization"));
+    }
 }
@@ -3,16 +3,28 @@ package at.alpscraft.web.rest;
 import static at.alpscraft.domain.BlogPostAsserts.*;
 import static at.alpscraft.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import at.alpscraft.IntegrationTest;
 import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.enumeration.PostStatus;
+import at.alpscraft.domain.enumeration.RevisionEntityType;
 import at.alpscraft.repository.BlogPostRepository;
 import at.alpscraft.repository.UserRepository;
+import at.alpscraft.security.AuthoritiesConstants;
+import at.alpscraft.service.BlogPostPublisher;
+import at.alpscraft.service.BlogPostViewCounter;
+import at.alpscraft.service.ContentRevisionService;
+import at.alpscraft.web.rest.util.KeysetPaginationUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -20,6 +32,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -39,6 +53,12 @@ class BlogPostResourceIT {
     private static final String DEFAULT_CONTENT = "AAAAAAAAAA";
     private static final String UPDATED_CONTENT = "BBBBBBBBBB";
 
+    private static final PostStatus DEFAULT_STATUS = PostStatus.PUBLISHED;
+    private static final PostStatus UPDATED_STATUS = PostStatus.DRAFT;
+
+    private static final Instant DEFAULT_PUBLISH_AT = Instant.ofEpochMilli(0L);
+    private static final Instant UPDATED_PUBLISH_AT = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
     private static final String ENTITY_API_URL = "/api/blog-posts";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
@@ -54,6 +74,15 @@ class BlogPostResourceIT {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private BlogPostViewCounter blogPostViewCounter;
+
+    @Autowired
+    private BlogPostPublisher blogPostPublisher;
+
+    @Autowired
+    private ContentRevisionService contentRevisionService;
+
     @Autowired
     private EntityManager em;
 
@@ -71,7 +100,7 @@ class BlogPostResourceIT {
      * if they test an entity which requires the current entity.
      */
     public static BlogPost createEntity() {
-        return new BlogPost().title(DEFAULT_TITLE).content(DEFAULT_CONTENT);
+        return new BlogPost().title(DEFAULT_TITLE).content(DEFAULT_CONTENT).status(DEFAULT_STATUS).publishAt(DEFAULT_PUBLISH_AT);
     }
 
     /**
@@ -81,7 +110,7 @@ class BlogPostResourceIT {
      * if they test an entity which requires the current entity.
      */
     public static BlogPost createUpdatedEntity() {
-        return new BlogPost().title(UPDATED_TITLE).content(UPDATED_CONTENT);
+        return new BlogPost().title(UPDATED_TITLE).content(UPDATED_CONTENT).status(UPDATED_STATUS).publishAt(UPDATED_PUBLISH_AT);
     }
 
     @BeforeEach
@@ -168,6 +197,46 @@ class BlogPostResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeTest);
     }
 
+    @Test
+    @Transactional
+    void checkPublishAtIsRequiredWhenScheduled() throws Exception {
+        long databaseSizeBeforeTest = getRepositoryCount();
+        blogPost.status(PostStatus.SCHEDULED).publishAt(null);
+
+        // Create the BlogPost, which fails.
+
+        restBlogPostMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(blogPost)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.publishatnull"));
+
+        assertSameRepositoryCount(databaseSizeBeforeTest);
+    }
+
+    @Test
+    @Transactional
+    void publishDueBlogPosts() throws Exception {
+        // Initialize the database with a due and a future scheduled blogPost
+        insertedBlogPost = blogPostRepository.saveAndFlush(
+            blogPost.status(PostStatus.SCHEDULED).publishAt(Instant.now().minusSeconds(1))
+        );
+        BlogPost futureBlogPost = blogPostRepository.saveAndFlush(
+            createEntity().status(PostStatus.SCHEDULED).publishAt(Instant.now().plus(1, ChronoUnit.DAYS))
+        );
+
+        assertThat(blogPostPublisher.publishDuePosts()).isEqualTo(1);
+        em.flush();
+        em.clear();
+
+        assertThat(blogPostRepository.findById(blogPost.getId())).get().extracting(BlogPost::getStatus).isEqualTo(PostStatus.PUBLISHED);
+        assertThat(blogPostRepository.findById(futureBlogPost.getId()))
+            .get()
+            .extracting(BlogPost::getStatus)
+            .isEqualTo(PostStatus.SCHEDULED);
+        assertThat(blogPostRepository.findFirstPublishAtByStatus(PostStatus.SCHEDULED)).contains(futureBlogPost.getPublishAt());
+        blogPostRepository.delete(futureBlogPost);
+    }
+
     @Test
     @Transactional
     void getAllBlogPosts() throws Exception {
@@ -181,7 +250,74 @@ class BlogPostResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(blogPost.getId().intValue())))
             .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)))
-            .andExpect(jsonPath("$.[*].content").value(hasItem(DEFAULT_CONTENT)));
+            .andExpect(jsonPath("$.[*].content").value(hasItem(DEFAULT_CONTENT)))
+            .andExpect(jsonPath("$.[*].status").value(hasItem(DEFAULT_STATUS.toString())))
+            .andExpect(jsonPath("$.[*].publishAt").value(hasItem(DEFAULT_PUBLISH_AT.toString())));
+    }
+
+    @Test
+    @Transactional
+    void getAllBlogPostsWithPaginationHeaders() throws Exception {
+        // Initialize the database
+        insertedBlogPost = blogPostRepository.saveAndFlush(blogPost);
+
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL + "?page=0&size=1&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"first\"")))
+            .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @Transactional
+    void getBlogPostsAfterCursor() throws Exception {
+        // Initialize the database
+        BlogPost first = blogPostRepository.saveAndFlush(createEntity());
+        BlogPost second = blogPostRepository.saveAndFlush(createEntity());
+        long lastId = first.getId() - 1;
+        String cursor = KeysetPaginationUtil.encodeCursor(lastId);
+
+        String nextCursor = restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL + "?cursor={cursor}&size=1", cursor))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(first.getId().intValue()))
+            .andReturn()
+            .getResponse()
+            .getHeader(KeysetPaginationUtil.NEXT_CURSOR_HEADER);
+
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL + "?cursor={cursor}&size=1", nextCursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(second.getId().intValue()));
+
+        blogPostRepository.delete(first);
+        blogPostRepository.delete(second);
+    }
+
+    @Test
+    @Transactional
+    void getBlogPostsWithInvalidCursor() throws Exception {
+        restBlogPostMockMvc.perform(get(ENTITY_API_URL + "?cursor=not-a-cursor")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllBlogPostSummaries() throws Exception {
+        // Initialize the database
+        insertedBlogPost = blogPostRepository.saveAndFlush(blogPost);
+
+        // Get all the blogPost summaries
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(blogPost.getId().intValue())))
+            .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)))
+            .andExpect(jsonPath("$.[*].content").doesNotExist());
     }
 
     @Test
@@ -197,7 +333,86 @@ class BlogPostResourceIT {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.id").value(blogPost.getId().intValue()))
             .andExpect(jsonPath("$.title").value(DEFAULT_TITLE))
-            .andExpect(jsonPath("$.content").value(DEFAULT_CONTENT));
+            .andExpect(jsonPath("$.content").value(DEFAULT_CONTENT))
+            .andExpect(jsonPath("$.status").value(DEFAULT_STATUS.toString()))
+            .andExpect(jsonPath("$.publishAt").value(DEFAULT_PUBLISH_AT.toString()));
+    }
+
+    @Test
+    @Transactional
+    void getDraftBlogPostIsNotFoundForUser() throws Exception {
+        // Initialize the database
+        insertedBlogPost = blogPostRepository.saveAndFlush(blogPost.status(PostStatus.DRAFT));
+        int id = blogPost.getId().intValue();
+
+        restBlogPostMockMvc.perform(get(ENTITY_API_URL_ID, id)).andExpect(status().isNotFound());
+        restBlogPostMockMvc.perform(get(ENTITY_API_URL_ID + "?view=full", id)).andExpect(status().isNotFound());
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=1000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(id))));
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc&size=1000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(id))));
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL + "?view=full&sort=id,desc&size=1000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(id))));
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL + "?cursor={cursor}&size=1", KeysetPaginationUtil.encodeCursor(id - 1L)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(id))));
+
+        // The view is not counted
+        blogPostViewCounter.flush();
+        assertThat(
+            em.createNativeQuery("select count(*) from blog_post_stats where blog_post_id = :id").setParameter("id", id).getSingleResult()
+        ).isEqualTo(0L);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void getDraftBlogPostForAdmin() throws Exception {
+        // Initialize the database
+        insertedBlogPost = blogPostRepository.saveAndFlush(blogPost.status(PostStatus.DRAFT));
+        int id = blogPost.getId().intValue();
+
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL_ID, id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value(PostStatus.DRAFT.toString()));
+        restBlogPostMockMvc.perform(get(ENTITY_API_URL_ID + "?view=full", id)).andExpect(status().isOk());
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=1000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(id)));
+
+        blogPostViewCounter.flush();
+        assertThat(
+            em.createNativeQuery("select count(*) from blog_post_stats where blog_post_id = :id").setParameter("id", id).getSingleResult()
+        ).isEqualTo(0L);
+    }
+
+    @Test
+    @Transactional
+    void getBlogPostsOfCurrentUser() throws Exception {
+        // Initialize the database
+        BlogPost ownDraft = blogPostRepository.saveAndFlush(
+            createEntity().status(PostStatus.DRAFT).author(userRepository.findOneByLogin("user").orElseThrow())
+        );
+        insertedBlogPost = blogPostRepository.saveAndFlush(blogPost);
+
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL + "/mine"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(ownDraft.getId().intValue())))
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(blogPost.getId().intValue()))))
+            .andExpect(jsonPath("$.[*].author.login").value(hasItem("user")));
+
+        blogPostRepository.delete(ownDraft);
     }
 
     @Test
@@ -207,6 +422,30 @@ class BlogPostResourceIT {
         restBlogPostMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getPopularBlogPosts() throws Exception {
+        // Initialize the database
+        insertedBlogPost = blogPostRepository.saveAndFlush(blogPost);
+
+        // View the blogPost twice and flush the views
+        restBlogPostMockMvc.perform(get(ENTITY_API_URL_ID, blogPost.getId())).andExpect(status().isOk());
+        restBlogPostMockMvc.perform(get(ENTITY_API_URL_ID, blogPost.getId())).andExpect(status().isOk());
+        restBlogPostMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
+        blogPostViewCounter.flush();
+
+        // Get the most read blogPosts
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL + "/popular?size=1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(blogPost.getId().intValue()))
+            .andExpect(jsonPath("$.[0].title").value(DEFAULT_TITLE))
+            .andExpect(jsonPath("$.[0].viewCount").value(2));
+        // The cache warm-up preloads the most read blogPosts first
+        assertThat(blogPostRepository.findAllPublishedOrderByViewCount(PageRequest.of(0, 1))).containsExactly(blogPost);
+    }
+
     @Test
     @Transactional
     void putExistingBlogPost() throws Exception {
@@ -219,7 +458,7 @@ class BlogPostResourceIT {
         BlogPost updatedBlogPost = blogPostRepository.findById(blogPost.getId()).orElseThrow();
         // Disconnect from session so that the updates on updatedBlogPost are not directly saved in db
         em.detach(updatedBlogPost);
-        updatedBlogPost.title(UPDATED_TITLE).content(UPDATED_CONTENT);
+        updatedBlogPost.title(UPDATED_TITLE).content(UPDATED_CONTENT).status(UPDATED_STATUS).publishAt(UPDATED_PUBLISH_AT);
 
         restBlogPostMockMvc
             .perform(
@@ -234,6 +473,70 @@ class BlogPostResourceIT {
         assertPersistedBlogPostToMatchAllProperties(updatedBlogPost);
     }
 
+    @Test
+    @Transactional
+    void getBlogPostRevisions() throws Exception {
+        BlogPost createdBlogPost = om.readValue(
+            restBlogPostMockMvc
+                .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(blogPost)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            BlogPost.class
+        );
+        insertedBlogPost = createdBlogPost;
+        em.flush();
+        em.clear();
+
+        BlogPost updatedBlogPost = blogPostRepository.findById(createdBlogPost.getId()).orElseThrow();
+        em.detach(updatedBlogPost);
+        updatedBlogPost.content(UPDATED_CONTENT);
+        restBlogPostMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedBlogPost.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedBlogPost))
+            )
+            .andExpect(status().isOk());
+
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/revisions", createdBlogPost.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].revision").value(contains(2, 1)))
+            .andExpect(jsonPath("$.[0].title").value(DEFAULT_TITLE))
+            .andExpect(jsonPath("$.[0].createdBy").value("user"));
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/revisions/diff?to=2", createdBlogPost.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+            .andExpect(content().string(containsString("-" + DEFAULT_CONTENT)))
+            .andExpect(content().string(containsString("+" + UPDATED_CONTENT)));
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/revisions/diff?to=1", createdBlogPost.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("+" + DEFAULT_CONTENT)))
+            .andExpect(content().string(not(containsString("-" + DEFAULT_CONTENT))));
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/revisions/diff?from=1&to=3", createdBlogPost.getId()))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getDraftBlogPostRevisionsIsNotFoundForUser() throws Exception {
+        // Initialize the database
+        insertedBlogPost = blogPostRepository.saveAndFlush(blogPost.status(PostStatus.DRAFT));
+        contentRevisionService.record(RevisionEntityType.BLOG_POST, blogPost.getId(), DEFAULT_TITLE, DEFAULT_CONTENT);
+        contentRevisionService.record(RevisionEntityType.BLOG_POST, blogPost.getId(), DEFAULT_TITLE, UPDATED_CONTENT);
+
+        restBlogPostMockMvc.perform(get(ENTITY_API_URL_ID + "/revisions", blogPost.getId())).andExpect(status().isNotFound());
+        restBlogPostMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/revisions/diff?from=1&to=2", blogPost.getId()))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void putNonExistingBlogPost() throws Exception {
@@ -323,7 +626,7 @@ class BlogPostResourceIT {
         BlogPost partialUpdatedBlogPost = new BlogPost();
         partialUpdatedBlogPost.setId(blogPost.getId());
 
-        partialUpdatedBlogPost.title(UPDATED_TITLE).content(UPDATED_CONTENT);
+        partialUpdatedBlogPost.title(UPDATED_TITLE).content(UPDATED_CONTENT).status(UPDATED_STATUS).publishAt(UPDATED_PUBLISH_AT);
 
         restBlogPostMockMvc
             .perform(
@@ -0,0 +1,123 @@
+package at.alpscraft.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import at.alpscraft.IntegrationTest;
+import at.alpscraft.domain.UiSection;
+import at.alpscraft.domain.UiSectionElement;
+import at.alpscraft.domain.enumeration.SectionType;
+import at.alpscraft.repository.UiSectionElementRepository;
+import at.alpscraft.repository.UiSectionRepository;
+import at.alpscraft.service.LayoutService;
+import at.alpscraft.service.dto.LayoutDTO;
+import at.alpscraft.service.dto.LayoutSectionDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link LayoutResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+@Transactional
+class LayoutResourceIT {
+
+    private static final String LAYOUT_API_URL = "/api/layout";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private UiSectionRepository uiSectionRepository;
+
+    @Autowired
+    private UiSectionElementRepository uiSectionElementRepository;
+
+    @Autowired
+    private LayoutService layoutService;
+
+    @Autowired
+    private MockMvc restLayoutMockMvc;
+
+    private UiSection header;
+
+    private UiSection side;
+
+    private UiSectionElement logo;
+
+    private UiSectionElement menu;
+
+    @BeforeEach
+    public void initTest() {
+        header = uiSectionRepository.saveAndFlush(new UiSection().title(SectionType.HEADER).cssClass("header").content("header"));
+        side = uiSectionRepository.saveAndFlush(new UiSection().title(SectionType.SIDE).content("side"));
+        logo = uiSectionElementRepository.saveAndFlush(new UiSectionElement().title(SectionType.HEADER).content("logo").uiSection(header));
+        menu = uiSectionElementRepository.saveAndFlush(new UiSectionElement().title(SectionType.HEADER).content("menu").uiSection(header));
+        // the snapshot may have been built by another test
+        layoutService.invalidate();
+    }
+
+    @Test
+    void getLayout() throws Exception {
+        restLayoutMockMvc
+            .perform(get(LAYOUT_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.sections.HEADER[*].id").value(hasItem(header.getId().intValue())))
+            .andExpect(jsonPath("$.sections.SIDE[*].id").value(hasItem(side.getId().intValue())))
+            .andExpect(
+                jsonPath("$.sections.HEADER[?(@.id == %d)].elements[*].id", header.getId()).value(
+                    contains(logo.getId().intValue(), menu.getId().intValue())
+                )
+            )
+            .andExpect(jsonPath("$.sections.HEADER[?(@.id == %d)].cssClass", header.getId()).value(hasItem("header")))
+            .andExpect(jsonPath("$.sections.SIDE[?(@.id == %d)].elements[*]", side.getId()).value(empty()));
+    }
+
+    @Test
+    void getLayoutAfterElementCreation() throws Exception {
+        // Build the snapshot
+        restLayoutMockMvc.perform(get(LAYOUT_API_URL)).andExpect(status().isOk());
+
+        UiSectionElement banner = new UiSectionElement().title(SectionType.SIDE).content("banner").uiSection(side);
+        restLayoutMockMvc
+            .perform(post("/api/ui-section-elements").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(banner)))
+            .andExpect(status().isCreated());
+
+        restLayoutMockMvc
+            .perform(get(LAYOUT_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.sections.SIDE[?(@.id == %d)].elements[*].content", side.getId()).value(contains("banner")));
+    }
+
+    @Test
+    void getLayoutAfterSectionDeletion() throws Exception {
+        // Build the snapshot
+        restLayoutMockMvc.perform(get(LAYOUT_API_URL)).andExpect(status().isOk());
+
+        restLayoutMockMvc.perform(delete("/api/ui-sections/{id}", side.getId())).andExpect(status().isNoContent());
+
+        LayoutDTO layout = om.readValue(
+            restLayoutMockMvc.perform(get(LAYOUT_API_URL)).andExpect(status().isOk()).andReturn().getResponse().getContentAsString(),
+            LayoutDTO.class
+        );
+        assertThat(layout.getSections().getOrDefault(SectionType.SIDE, List.of()))
+            .extracting(LayoutSectionDTO::getId)
+            .doesNotContain(side.getId());
+        assertThat(layout.getSections().get(SectionType.HEADER)).extracting(LayoutSectionDTO::getId).contains(header.getId());
+    }
+}
@@ -0,0 +1,79 @@
+package at.alpscraft.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import at.alpscraft.IntegrationTest;
+import at.alpscraft.domain.User;
+import at.alpscraft.repository.RevokedTokenRepository;
+import at.alpscraft.repository.UserRepository;
+import at.alpscraft.web.rest.vm.LoginVM;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link LogoutResource} REST controller.
+ */
+@AutoConfigureMockMvc
+@IntegrationTest
+class LogoutResourceIT {
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @Transactional
+    void testLogoutRevokesTheToken() throws Exception {
+        User user = new User();
+        user.setLogin("user-logout");
+        user.setEmail("user-logout@example.com");
+        user.setActivated(true);
+        user.setPassword(passwordEncoder.encode("test"));
+        userRepository.saveAndFlush(user);
+
+        LoginVM login = new LoginVM();
+        login.setUsername("user-logout");
+        login.setPassword("test");
+        String response = mockMvc
+            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(login)))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        String authorization = "Bearer " + om.readValue(response, JsonNode.class).get("id_token").asText();
+        long revokedTokensBefore = revokedTokenRepository.count();
+
+        mockMvc.perform(get("/api/account").header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isOk());
+        mockMvc.perform(post("/api/logout").header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isNoContent());
+
+        assertThat(revokedTokenRepository.count()).isEqualTo(revokedTokensBefore + 1);
+        mockMvc.perform(get("/api/account").header(HttpHeaders.AUTHORIZATION, authorization)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testLogoutRequiresAuthentication() throws Exception {
+        mockMvc.perform(post("/api/logout")).andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,134 @@
+package at.alpscraft.web.rest;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import at.alpscraft.IntegrationTest;
+import at.alpscraft.domain.BlogPost;
+import at.alpscraft.domain.StaticPage;
+import at.alpscraft.domain.enumeration.PostStatus;
+import at.alpscraft.repository.BlogPostRepository;
+import at.alpscraft.repository.StaticPageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link SearchResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+@Transactional
+class SearchResourceIT {
+
+    private static final String BLOG_POSTS_SEARCH_URL = "/api/_search/blog-posts";
+
+    private static final String STATIC_PAGES_SEARCH_URL = "/api/_search/static-pages";
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private StaticPageRepository staticPageRepository;
+
+    @Autowired
+    private MockMvc restSearchMockMvc;
+
+    private BlogPost titleMatch;
+
+    private BlogPost contentMatch;
+
+    private StaticPage staticPage;
+
+    @BeforeEach
+    public void initTest() {
+        contentMatch = blogPostRepository.saveAndFlush(
+            new BlogPost().title("Wanderwoche").content("Eine Woche in den Bergen mit langen Skitouren und Hütten")
+        );
+        titleMatch = blogPostRepository.saveAndFlush(new BlogPost().title("Skitouren im Frühling").content("Firn am Morgen"));
+        blogPostRepository.saveAndFlush(new BlogPost().title("Klettersteige").content("Gesichert am Fels"));
+        staticPage = staticPageRepository.saveAndFlush(new StaticPage().title("Impressum").content("Skitouren Verein, Innsbruck"));
+    }
+
+    @Test
+    void searchBlogPostsRanksTitleMatchesFirst() throws Exception {
+        restSearchMockMvc
+            .perform(get(BLOG_POSTS_SEARCH_URL + "?query=skitour"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(jsonPath("$.[*].id").value(contains(titleMatch.getId().intValue(), contentMatch.getId().intValue())))
+            .andExpect(jsonPath("$.[0].title").value("Skitouren im Frühling"))
+            .andExpect(jsonPath("$.[0].content").doesNotExist());
+    }
+
+    @Test
+    void searchBlogPostsIsPaginated() throws Exception {
+        restSearchMockMvc
+            .perform(get(BLOG_POSTS_SEARCH_URL + "?query=skitouren&page=1&size=1&sort=id,asc"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(jsonPath("$.[*].id").value(contains(contentMatch.getId().intValue())));
+    }
+
+    @Test
+    void searchBlogPostsWithExcludedWord() throws Exception {
+        restSearchMockMvc
+            .perform(get(BLOG_POSTS_SEARCH_URL + "?query=skitouren -firn"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(contentMatch.getId().intValue())));
+    }
+
+    @Test
+    void searchBlogPostsWithoutMatch() throws Exception {
+        restSearchMockMvc
+            .perform(get(BLOG_POSTS_SEARCH_URL + "?query=segelflug"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "0"))
+            .andExpect(jsonPath("$").value(empty()));
+    }
+
+    @Test
+    void searchBlogPostsFollowsUpdates() throws Exception {
+        blogPostRepository.saveAndFlush(titleMatch.title("Frühling").content("Firn am Morgen"));
+
+        restSearchMockMvc
+            .perform(get(BLOG_POSTS_SEARCH_URL + "?query=skitouren"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(contentMatch.getId().intValue())));
+    }
+
+    @Test
+    void searchBlogPostsSkipsUnpublishedPosts() throws Exception {
+        blogPostRepository.saveAndFlush(titleMatch.status(PostStatus.DRAFT));
+
+        restSearchMockMvc
+            .perform(get(BLOG_POSTS_SEARCH_URL + "?query=skitouren"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(contains(contentMatch.getId().intValue())));
+    }
+
+    @Test
+    void searchBlogPostsWithBlankQuery() throws Exception {
+        restSearchMockMvc.perform(get(BLOG_POSTS_SEARCH_URL + "?query= ")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchStaticPages() throws Exception {
+        restSearchMockMvc
+            .perform(get(STATIC_PAGES_SEARCH_URL + "?query=innsbruck"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(contains(staticPage.getId().intValue())))
+            .andExpect(jsonPath("$.[0].title").value("Impressum"));
+    }
+}
@@ -4,6 +4,7 @@ import static at.alpscraft.domain.StaticPageAsserts.*;
 import static at.alpscraft.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -13,13 +14,16 @@ import at.alpscraft.repository.StaticPageRepository;
 import at.alpscraft.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -184,6 +188,22 @@ class StaticPageResourceIT {
             .andExpect(jsonPath("$.[*].content").value(hasItem(DEFAULT_CONTENT)));
     }
 
+    @Test
+    @Transactional
+    void getAllStaticPageSummaries() throws Exception {
+        // Initialize the database
+        insertedStaticPage = staticPageRepository.saveAndFlush(staticPage);
+
+        // Get all the staticPage summaries
+        restStaticPageMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(staticPage.getId().intValue())))
+            .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)))
+            .andExpect(jsonPath("$.[*].content").doesNotExist());
+    }
+
     @Test
     @Transactional
     void getStaticPage() throws Exception {
@@ -200,6 +220,104 @@ class StaticPageResourceIT {
             .andExpect(jsonPath("$.content").value(DEFAULT_CONTENT));
     }
 
+    @Test
+    @Transactional
+    void getStaticPageGzipped() throws Exception {
+        // Initialize the database
+        insertedStaticPage = staticPageRepository.saveAndFlush(staticPage);
+
+        // Get the staticPage, accepting gzip
+        byte[] body = restStaticPageMockMvc
+            .perform(get(ENTITY_API_URL_ID, staticPage.getId()).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            StaticPage returnedStaticPage = om.readValue(gzip, StaticPage.class);
+            assertStaticPageAllPropertiesEquals(staticPage, returnedStaticPage);
+        }
+    }
+
+    @Test
+    @Transactional
+    void getStaticPageAfterUpdate() throws Exception {
+        // Initialize the database
+        insertedStaticPage = staticPageRepository.saveAndFlush(staticPage);
+
+        // Render the staticPage once so that it is cached
+        restStaticPageMockMvc
+            .perform(get(ENTITY_API_URL_ID, staticPage.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value(DEFAULT_TITLE));
+
+        StaticPage updatedStaticPage = staticPageRepository.findById(staticPage.getId()).orElseThrow();
+        em.detach(updatedStaticPage);
+        updatedStaticPage.title(UPDATED_TITLE).content(UPDATED_CONTENT);
+        restStaticPageMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedStaticPage.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedStaticPage))
+            )
+            .andExpect(status().isOk());
+
+        // The cached rendering must have been evicted by the update
+        restStaticPageMockMvc
+            .perform(get(ENTITY_API_URL_ID, staticPage.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value(UPDATED_TITLE))
+            .andExpect(jsonPath("$.content").value(UPDATED_CONTENT));
+
+        // And by the deletion
+        restStaticPageMockMvc.perform(delete(ENTITY_API_URL_ID, staticPage.getId())).andExpect(status().isNoContent());
+        restStaticPageMockMvc.perform(get(ENTITY_API_URL_ID, staticPage.getId())).andExpect(status().isNotFound());
+        insertedStaticPage = null;
+    }
+
+    @Test
+    @Transactional
+    void getStaticPageNotModified() throws Exception {
+        // Initialize the database
+        insertedStaticPage = staticPageRepository.saveAndFlush(staticPage);
+
+        String eTag = restStaticPageMockMvc
+            .perform(get(ENTITY_API_URL_ID, staticPage.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // An unchanged staticPage is revalidated without body
+        restStaticPageMockMvc
+            .perform(get(ENTITY_API_URL_ID, staticPage.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().bytes(new byte[0]));
+
+        // An updated one is sent again, with a new ETag
+        StaticPage updatedStaticPage = staticPageRepository.findById(staticPage.getId()).orElseThrow();
+        em.detach(updatedStaticPage);
+        updatedStaticPage.title(UPDATED_TITLE);
+        restStaticPageMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedStaticPage.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedStaticPage))
+            )
+            .andExpect(status().isOk());
+        em.flush();
+
+        restStaticPageMockMvc
+            .perform(get(ENTITY_API_URL_ID, staticPage.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+            .andExpect(jsonPath("$.title").value(UPDATED_TITLE));
+    }
+
     @Test
     @Transactional
     void getNonExistingStaticPage() throws Exception {
@@ -234,6 +352,47 @@ class StaticPageResourceIT {
         assertPersistedStaticPageToMatchAllProperties(updatedStaticPage);
     }
 
+    @Test
+    @Transactional
+    void putStaticPageWithStaleVersion() throws Exception {
+        // Initialize the database
+        insertedStaticPage = staticPageRepository.saveAndFlush(staticPage);
+
+        StaticPage staleStaticPage = staticPageRepository.findById(staticPage.getId()).orElseThrow();
+        em.detach(staleStaticPage);
+        staleStaticPage.title(UPDATED_TITLE).version(staleStaticPage.getVersion() - 1);
+
+        restStaticPageMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, staleStaticPage.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(staleStaticPage))
+            )
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @Transactional
+    void putStaticPageWithoutVersion() throws Exception {
+        // Initialize the database
+        insertedStaticPage = staticPageRepository.saveAndFlush(staticPage);
+        long databaseSizeBeforeUpdate = getRepositoryCount();
+
+        StaticPage updatedStaticPage = new StaticPage().id(staticPage.getId()).title(UPDATED_TITLE).content(UPDATED_CONTENT);
+
+        restStaticPageMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedStaticPage.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedStaticPage))
+            )
+            .andExpect(status().isBadRequest());
+
+        // Validate the StaticPage in the database
+        assertSameRepositoryCount(databaseSizeBeforeUpdate);
+        assertThat(getPersistedStaticPage(staticPage).getTitle()).isEqualTo(DEFAULT_TITLE);
+    }
+
     @Test
     @Transactional
     void putNonExistingStaticPage() throws Exception {
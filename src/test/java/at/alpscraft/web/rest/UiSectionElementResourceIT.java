@@ -181,6 +181,22 @@ class UiSectionElementResourceIT {
             .andExpect(jsonPath("$.[*].content").value(hasItem(DEFAULT_CONTENT)));
     }
 
+    @Test
+    @Transactional
+    void getAllUiSectionElementSummaries() throws Exception {
+        // Initialize the database
+        insertedUiSectionElement = uiSectionElementRepository.saveAndFlush(uiSectionElement);
+
+        // Get all the uiSectionElement summaries
+        restUiSectionElementMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(uiSectionElement.getId().intValue())))
+            .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE.toString())))
+            .andExpect(jsonPath("$.[*].content").doesNotExist());
+    }
+
     @Test
     @Transactional
     void getUiSectionElement() throws Exception {
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -185,6 +186,23 @@ class UiSectionResourceIT {
             .andExpect(jsonPath("$.[*].content").value(hasItem(DEFAULT_CONTENT)));
     }
 
+    @Test
+    @Transactional
+    void getAllUiSectionSummaries() throws Exception {
+        // Initialize the database
+        insertedUiSection = uiSectionRepository.saveAndFlush(uiSection);
+
+        // Get all the uiSection summaries
+        restUiSectionMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(uiSection.getId().intValue())))
+            .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE.toString())))
+            .andExpect(jsonPath("$.[*].cssClass").value(hasItem(DEFAULT_CSS_CLASS)))
+            .andExpect(jsonPath("$.[*].content").doesNotExist());
+    }
+
     @Test
     @Transactional
     void getUiSection() throws Exception {
@@ -202,6 +220,26 @@ class UiSectionResourceIT {
             .andExpect(jsonPath("$.content").value(DEFAULT_CONTENT));
     }
 
+    @Test
+    @Transactional
+    void getUiSectionNotModified() throws Exception {
+        // Initialize the database
+        insertedUiSection = uiSectionRepository.saveAndFlush(uiSection);
+
+        String eTag = restUiSectionMockMvc
+            .perform(get(ENTITY_API_URL_ID, uiSection.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restUiSectionMockMvc
+            .perform(get(ENTITY_API_URL_ID, uiSection.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().bytes(new byte[0]));
+    }
+
     @Test
     @Transactional
     void getNonExistingUiSection() throws Exception {
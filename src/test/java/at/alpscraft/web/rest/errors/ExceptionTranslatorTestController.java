@@ -1,7 +1,9 @@
 package at.alpscraft.web.rest.errors;
 
+import at.alpscraft.security.PasswordHashingUnavailableException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.util.concurrent.RejectedExecutionException;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
@@ -42,6 +44,11 @@ public class ExceptionTranslatorTestController {
         throw new BadCredentialsException("test authentication failed!");
     }
 
+    @GetMapping("/password-hashing-unavailable")
+    public void passwordHashingUnavailable() {
+        throw new PasswordHashingUnavailableException("test password hashing unavailable", new RejectedExecutionException());
+    }
+
     @GetMapping("/response-status")
     public void exceptionWithResponseStatus() {
         throw new TestResponseStatusException();
@@ -0,0 +1,57 @@
+package at.alpscraft.web.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+class KeysetPaginationUtilTest {
+
+    @Test
+    void cursorRoundTrip() {
+        String cursor = KeysetPaginationUtil.encodeCursor(1234L);
+
+        assertThat(cursor).doesNotContain("1234");
+        assertThat(KeysetPaginationUtil.decodeCursor(cursor)).contains(1234L);
+    }
+
+    @Test
+    void blankCursorStartsFromFirstSlice() {
+        assertThat(KeysetPaginationUtil.decodeCursor("")).isEmpty();
+        assertThat(KeysetPaginationUtil.decodeCursor(null)).isEmpty();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> KeysetPaginationUtil.decodeCursor("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetPaginationUtil.decodeCursor("Zm9vOjE")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sizeIsBounded() {
+        assertThat(KeysetPaginationUtil.boundedSize(0)).isEqualTo(1);
+        assertThat(KeysetPaginationUtil.boundedSize(50)).isEqualTo(50);
+        assertThat(KeysetPaginationUtil.boundedSize(100_000)).isEqualTo(KeysetPaginationUtil.MAX_SIZE);
+    }
+
+    @Test
+    void headersPointToNextSlice() {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromUriString("http://localhost/api/blog-posts?cursor=&size=5");
+
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(uri, "abc", 5);
+
+        assertThat(headers.getFirst(KeysetPaginationUtil.NEXT_CURSOR_HEADER)).isEqualTo("abc");
+        assertThat(headers.getFirst(HttpHeaders.LINK)).isEqualTo("<http://localhost/api/blog-posts?cursor=abc&size=5>; rel=\"next\"");
+    }
+
+    @Test
+    void lastSliceHasNoNextHeaders() {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromUriString("http://localhost/api/blog-posts?cursor=abc");
+
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(uri, null, 5);
+
+        assertThat(headers).isEmpty();
+    }
+}